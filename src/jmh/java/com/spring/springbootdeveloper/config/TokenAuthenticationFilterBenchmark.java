@@ -0,0 +1,71 @@
+package com.spring.springbootdeveloper.config;
+
+import com.spring.springbootdeveloper.config.jwt.BenchmarkTokens;
+import com.spring.springbootdeveloper.config.jwt.JwtProperties;
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 건당 TokenAuthenticationFilter 처리 시간
+// tokenSource: header (Authorization: Bearer), cookie (access_token 쿠키, 다른 쿠키와 함께), none (익명 요청)
+// cache: miss (요청마다 다른 토큰, 서명 검증까지), hit (같은 토큰 반복, 검증된 토큰 캐시 적중) - BenchmarkTokens 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "c3ByaW5nYm9vdC1kZXZlbG9wZXItYmVuY2htYXJrLXNlY3JldC1rZXk=";
+
+    @Param({"header", "cookie", "none"})
+    private String tokenSource;
+
+    @Param({BenchmarkTokens.MISS, BenchmarkTokens.HIT})
+    private String cache;
+
+    private TokenAuthenticationFilter filter;
+    private BenchmarkTokens tokens;
+
+    @Setup
+    public void setup() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@example.com");
+        jwtProperties.setSecretKey(SECRET_KEY);
+
+        TokenProvider tokenProvider = new TokenProvider(jwtProperties);
+        tokens = BenchmarkTokens.create(tokenProvider, cache);
+        filter = new TokenAuthenticationFilter(tokenProvider);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.setServletPath("/api/articles");
+        switch (tokenSource) {
+            case "header" -> request.addHeader("Authorization", "Bearer " + tokens.next());
+            case "cookie" -> request.addHeader("Cookie", "JSESSIONID=abc; theme=dark; access_token=" + tokens.next());
+            default -> { }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilterInternal(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
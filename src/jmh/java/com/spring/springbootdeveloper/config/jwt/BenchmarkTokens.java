@@ -0,0 +1,42 @@
+package com.spring.springbootdeveloper.config.jwt;
+
+import com.spring.springbootdeveloper.domain.User;
+
+import java.time.Duration;
+
+// 벤치마크에서 검증할 토큰 목록
+// hit  : 토큰 하나를 반복해서 검증 (첫 호출 이후에는 검증된 토큰 캐시 적중)
+// miss : 검증된 토큰 캐시보다 훨씬 많은 서로 다른 토큰을 돌아가며 검증 (대부분 서명 검증, 파싱까지 실행)
+//        캐시 크기의 13배이므로 돌아가며 조회해도 캐시에 남아 있는 토큰은 많아야 8% 정도다.
+public final class BenchmarkTokens {
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+
+    private static final int MISS_POOL_SIZE = 1 << 17;    // 131072, 2의 거듭제곱이라 & 로 순환
+
+    private final String[] tokens;
+    private int next;   // 벤치마크는 스레드 하나로 실행하므로 동기화하지 않는다
+
+    private BenchmarkTokens(String[] tokens) {
+        this.tokens = tokens;
+    }
+
+    public static BenchmarkTokens create(TokenProvider tokenProvider, String cache) {
+        if (MISS_POOL_SIZE <= TokenProvider.VERIFIED_TOKEN_CACHE_SIZE * 8) {
+            throw new IllegalStateException("miss token pool must be much larger than the verified token cache");
+        }
+
+        int size = MISS.equals(cache) ? MISS_POOL_SIZE : 1;
+        String[] tokens = new String[size];
+        for (int i = 0; i < size; i++) {
+            // 같은 초에 같은 사용자로 만들면 토큰이 같아지므로 사용자마다 다른 email 로 만든다.
+            tokens[i] = tokenProvider.generateToken(User.builder().email("bench" + i + "@example.com").build(), Duration.ofDays(1));
+        }
+        return new BenchmarkTokens(tokens);
+    }
+
+    public String next() {
+        return tokens[next++ & (tokens.length - 1)];
+    }
+}
@@ -0,0 +1,100 @@
+package com.spring.springbootdeveloper.config.jwt;
+
+import com.spring.springbootdeveloper.domain.User;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급/검증 처리량 비교
+// legacy* : 매 호출마다 비밀값 문자열을 넘겨 키와 파서를 새로 만드는 이전 방식
+// 나머지  : 키와 파서를 재사용하는 TokenProvider
+// cache=miss 일 때 키, 파서 재사용의 효과를 비교할 수 있다. (hit 는 검증된 토큰 캐시 조회 + SHA-256 만 측정, BenchmarkTokens 참고)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "c3ByaW5nYm9vdC1kZXZlbG9wZXItYmVuY2htYXJrLXNlY3JldC1rZXk=";
+
+    @Param({BenchmarkTokens.MISS, BenchmarkTokens.HIT})
+    private String cache;
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private User user;
+    private BenchmarkTokens tokens;
+
+    @Setup
+    public void setup() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("bench@example.com");
+        jwtProperties.setSecretKey(SECRET_KEY);
+
+        tokenProvider = new TokenProvider(jwtProperties);
+        user = User.builder()
+                .email("bench@example.com")
+                .build();
+        tokens = BenchmarkTokens.create(tokenProvider, cache);
+    }
+
+    @Benchmark
+    public String legacyGenerateToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofDays(1).toMillis()))
+                .setSubject(user.getEmail())
+                .claim("id", user.getId())
+                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public boolean legacyValidateToken() {
+        try {
+            Jwts.parser()
+                    .setSigningKey(jwtProperties.getSecretKey())
+                    .parseClaimsJws(tokens.next());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(tokens.next());
+    }
+
+    // 검증 후 인증 정보 생성 (검증, 파싱을 두 번 하는 방식)
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        String token = tokens.next();
+        return tokenProvider.validateToken(token) ? tokenProvider.getAuthentication(token) : null;
+    }
+
+    // 한 번의 파싱으로 검증과 인증 정보 생성 (TokenAuthenticationFilter 에서 사용)
+    @Benchmark
+    public Authentication authenticate() {
+        return tokenProvider.authenticate(tokens.next());
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.springbootdeveloper.config.password;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// 회원가입 1건당 비용(패스워드 해시) 비교
+// 초당 처리량 = 해시 스레드 1개가 처리할 수 있는 회원가입 수. password.pool-size 를 곱하면 전체 상한이 된다.
+// bcryptStrength 는 algorithm=BCRYPT 일 때만 의미가 있다. 다른 알고리즘은 -p algorithm=ARGON2 -p bcryptStrength=10 처럼 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordEncoderBenchmark {
+
+    @Param({"BCRYPT"})
+    private PasswordEncoderProperties.Algorithm algorithm;
+
+    @Param({"4", "8", "10", "12"})
+    private int bcryptStrength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setup() {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setBcryptStrength(bcryptStrength);
+
+        passwordEncoder = new PasswordEncoderConfig(properties).passwordEncoder();
+        encodedPassword = passwordEncoder.encode("benchmark-password");
+    }
+
+    // 회원가입 시 해시 생성
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("benchmark-password");
+    }
+
+    // 로그인 시 해시 검증
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("benchmark-password", encodedPassword);
+    }
+}
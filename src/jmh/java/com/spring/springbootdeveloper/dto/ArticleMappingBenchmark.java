@@ -0,0 +1,82 @@
+package com.spring.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 글 목록 응답을 만드는 비용 (엔티티 -> DTO 변환, JSON 직렬화)
+// articles 개수만큼의 글을 한 번에 처리한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int articles;
+
+    private ObjectMapper objectMapper;
+    private List<Article> entities;
+    private List<ArticleResponse> responses;
+    private ArticlePageResponse<ArticleListViewResponse> page;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();  // 스프링 부트와 같은 기본 설정 (날짜는 ISO 문자열)
+
+        String content = "스프링 부트 3 와 JPA 로 만드는 블로그 글 본문입니다. ".repeat(20);
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(articles);
+        List<ArticleListViewResponse> summaries = new ArrayList<>(articles);
+        for (int i = 0; i < articles; i++) {
+            entities.add(Article.builder()
+                    .author("bench" + i + "@example.com")
+                    .title("벤치마크 글 제목 " + i)
+                    .content(content)
+                    .build());
+            summaries.add(new ArticleListViewResponse((long) i, "벤치마크 글 제목 " + i,
+                    content.substring(0, ArticleListViewResponse.EXCERPT_LENGTH), now.minusMinutes(i), 0L));
+        }
+        responses = mapToArticleResponses();
+        page = new ArticlePageResponse<>(summaries, (long) articles, true);
+    }
+
+    @Benchmark
+    public List<ArticleResponse> mapToArticleResponses() {
+        return entities.stream()
+                .map(ArticleResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleViewResponse> mapToArticleViewResponses() {
+        return entities.stream()
+                .map(ArticleViewResponse::new)
+                .toList();
+    }
+
+    // GET /api/articles (전체 조회) 응답 본문
+    @Benchmark
+    public byte[] serializeArticleResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    // GET /api/articles?after=&size= (커서 기반 조회) 응답 본문
+    @Benchmark
+    public byte[] serializeArticlePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
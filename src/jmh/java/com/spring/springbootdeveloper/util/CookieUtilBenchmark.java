@@ -0,0 +1,70 @@
+package com.spring.springbootdeveloper.util;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// OAuth2 인증 요청 쿠키 변환 비교
+// legacy* : 자바 직렬화 + Base64 (이전 방식)
+// 나머지  : 필요한 필드만 담은 JSON + deflate (CookieUtil)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CookieUtilBenchmark {
+
+    private OAuth2AuthorizationRequest request;
+    private String legacyValue;
+    private Cookie cookie;
+
+    @Setup
+    public void setup() {
+        request = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("kakao-client-id")
+                .redirectUri("http://localhost:5000/login/oauth2/code/kakao")
+                .scopes(Set.of("profile_nickname", "profile_image", "account_email"))
+                .state("Rk9vQmFyU3RhdGVWYWx1ZUZvclRlc3Rpbmc=")
+                .attributes(Map.of(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+                .build();
+        legacyValue = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+        cookie = new Cookie("oauth2_auth_request", CookieUtil.serialize(request));
+
+        // 쿠키 크기 비교 (결과 로그에 함께 출력)
+        System.out.printf("cookie size: legacy=%d bytes, compact=%d bytes%n",
+                legacyValue.length(), cookie.getValue().length());
+    }
+
+    @Benchmark
+    public String legacySerialize() {
+        return Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtil.serialize(request);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Object legacyDeserialize() {
+        return SerializationUtils.deserialize(Base64.getUrlDecoder().decode(legacyValue));
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtil.deserialize(cookie);
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("article.import")  // application.yml 의 article.import 값
+public class ArticleImportProperties {
+
+    private int batchSize = 500;            // 한 트랜잭션에서 저장할 글 수
+    private int maxReportedErrors = 1_000;  // 응답에 담을 최대 오류 행 수 (나머지는 개수만 센다)
+}
@@ -0,0 +1,16 @@
+package com.spring.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("article.view-count")  // application.yml 의 article.view-count 값
+public class ArticleViewCountProperties {
+
+    private int seedSize = 100;     // 시작 시 DB 에서 읽어 둘 조회수 상위 글 수 (가장 많이 본 글 조회의 최대 개수)
+    // DB 반영 간격은 ArticleViewCounter 의 @Scheduled 에서 article.view-count.flush-interval 로 읽는다. (기본값 10초)
+}
@@ -0,0 +1,16 @@
+package com.spring.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("refresh-token.purge")     // application.yml 의 refresh-token.purge 값
+public class RefreshTokenPurgeProperties {
+
+    private int batchSize = 1_000;  // 한 번에 삭제할 최대 토큰 수
+    // 실행 간격은 RefreshTokenPurgeJob 의 @Scheduled 에서 refresh-token.purge.interval 로 읽는다. (기본값 1시간)
+}
@@ -0,0 +1,9 @@
+package com.spring.springbootdeveloper.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling   // @Scheduled 가 붙은 정기 작업 활성화
+public class SchedulingConfig {
+}
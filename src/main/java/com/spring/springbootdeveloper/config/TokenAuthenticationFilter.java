@@ -1,58 +1,108 @@
 package com.spring.springbootdeveloper.config;
 
 import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 @RequiredArgsConstructor
-@Slf4j
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final Tracer tracer;    // 토큰 검증 구간 추적 (샘플링되지 않은 요청은 기록하지 않는 span 이라 비용이 거의 없다)
     private final static String HEADER_AUTHORIZATION = "Authorization";
+    private final static String HEADER_COOKIE = "Cookie";
     private final static String TOKEN_PREFIX = "Bearer ";
+    private final static String ACCESS_TOKEN_COOKIE_NAME = "access_token";
 
+    // OAuth2 및 정적 리소스 경로 제외 (필터 생성 시 한 번만 만들어 둔다)
+    private final static String[] EXCLUDED_PATH_PREFIXES = {"/oauth2/", "/login/oauth2/", "/img/", "/css/", "/js/", "/h2-console/"};
+    private final static Set<String> EXCLUDED_PATHS = Set.of("/favicon.ico");
 
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    // 요청마다 로그를 남기지 않고 카운터만 올린다. 처리 시간은 SAMPLE_RATE 번 중 한 번만 측정
+    private final static int SAMPLE_RATE = 100;
 
-        String path = request.getServletPath();
-        log.info("Processing request: {}", path);
+    private final LongAdder authenticatedCount = new LongAdder();   // 유효한 토큰으로 인증된 요청
+    private final LongAdder invalidTokenCount = new LongAdder();    // 토큰은 있지만 유효하지 않은 요청
+    private final LongAdder anonymousCount = new LongAdder();       // 토큰이 없는 요청
+    private final LongAdder sampledCount = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
 
-        // OAuth2 및 정적 리소스 경로 제외
-        if (path.startsWith("/oauth2/") || path.startsWith("/login/oauth2/") || path.equals("/favicon.ico")) {
-            filterChain.doFilter(request, response);
-            return;
+    public TokenAuthenticationFilter(TokenProvider tokenProvider) {
+        this(tokenProvider, Tracer.NOOP);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (EXCLUDED_PATHS.contains(path)) {
+            return true;
+        }
+        for (String prefix : EXCLUDED_PATH_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        boolean sampled = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        long start = sampled ? System.nanoTime() : 0L;
 
         // 가져온 값에서 접두사 제거
         String token = getAccessToken(request);
 
-        // 가져온 토큰이 유효한지 확인하고 유효한 때는 인증 정보를 설정
-        if (token != null && tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        // 가져온 토큰이 유효한지 확인하고 유효한 때는 인증 정보를 설정 (토큰은 한 번만 검증)
+        if (token == null) {
+            anonymousCount.increment();
+        }
+        else {
+            Authentication authentication = authenticate(token);
             if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.info("Set authentication for user: {}", authentication.getName());
+                authenticatedCount.increment();
+            }
+            else {
+                invalidTokenCount.increment();
             }
         }
-        else {
-            log.debug("No valid token found for user: {}", path);
+
+        if (sampled) {
+            sampledNanos.add(System.nanoTime() - start);
+            sampledCount.increment();
         }
         filterChain.doFilter(request, response);
     }
 
 
+    // 요청 span 의 자식 span 으로 토큰 검증 시간을 기록
+    private Authentication authenticate(String token) {
+        Span span = tracer.nextSpan().name("token verify").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            Authentication authentication = tokenProvider.authenticate(token);
+            span.tag("result", authentication != null ? "authenticated" : "invalid");
+            return authentication;
+        } finally {
+            span.end();
+        }
+    }
+
     private String getAccessToken(HttpServletRequest request) {
         // 요청 헤더의 Authorization 키의 값 조회
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
@@ -62,15 +112,60 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 쿠키에서 access_token 추출
-        if (request.getCookies() != null) { // 쿠키가 들어 있다면
-            for (Cookie cookie : request.getCookies()) {
-                if ("access_token".equals(cookie.getName())) {
-                    log.info("Found access_token: {}", cookie.getValue());
-                    return cookie.getValue();
-                }
+        // request.getCookies() 는 모든 쿠키를 Cookie 객체로 파싱하므로 Cookie 헤더에서 필요한 값만 찾는다.
+        Enumeration<String> cookieHeaders = request.getHeaders(HEADER_COOKIE);
+        while (cookieHeaders != null && cookieHeaders.hasMoreElements()) {
+            String value = findCookieValue(cookieHeaders.nextElement(), ACCESS_TOKEN_COOKIE_NAME);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    // "a=1; access_token=xxx; b=2" 형태의 Cookie 헤더에서 name 의 값을 찾는다. 없으면 null
+    static String findCookieValue(String cookieHeader, String name) {
+        int length = cookieHeader.length();
+        int index = 0;
+
+        while (index < length) {
+            // 쿠키 사이의 공백, 구분자 건너뛰기
+            while (index < length && (cookieHeader.charAt(index) == ' ' || cookieHeader.charAt(index) == ';')) {
+                index++;
+            }
+            int end = cookieHeader.indexOf(';', index);
+            if (end < 0) {
+                end = length;
+            }
+
+            if (cookieHeader.startsWith(name, index)
+                    && index + name.length() < end
+                    && cookieHeader.charAt(index + name.length()) == '=') {
+                String value = cookieHeader.substring(index + name.length() + 1, end).trim();
+                return value.isEmpty() ? null : value;
             }
+            index = end + 1;
         }
-        log.warn("No access_token found in cookies");
         return null;
     }
+
+    public long getAuthenticatedCount() {
+        return authenticatedCount.sum();
+    }
+
+    public long getInvalidTokenCount() {
+        return invalidTokenCount.sum();
+    }
+
+    public long getAnonymousCount() {
+        return anonymousCount.sum();
+    }
+
+    public long getSampledCount() {
+        return sampledCount.sum();
+    }
+
+    public long getSampledNanos() {
+        return sampledNanos.sum();
+    }
 }
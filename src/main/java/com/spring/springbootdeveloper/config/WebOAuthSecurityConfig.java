@@ -4,11 +4,12 @@ import com.spring.springbootdeveloper.config.jwt.TokenProvider;
 import com.spring.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
 import com.spring.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
 import com.spring.springbootdeveloper.config.oauth.OAuth2UserCustomService;
-import com.spring.springbootdeveloper.domain.RefreshToken;
 import com.spring.springbootdeveloper.domain.User;
-import com.spring.springbootdeveloper.repository.RefreshTokenRepositoty;
+import com.spring.springbootdeveloper.service.RefreshTokenService;
 import com.spring.springbootdeveloper.service.UserService;
 import com.spring.springbootdeveloper.util.CookieUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import jakarta.servlet.http.Cookie;
@@ -16,6 +17,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -29,7 +31,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import java.net.URLEncoder;
-import java.util.Optional;
 
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
 
@@ -40,8 +41,10 @@ public class WebOAuthSecurityConfig {
 
     private final OAuth2UserCustomService oAuth2UserCustomService;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepositoty refreshTokenRepositoty;
+    private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<Tracer> tracer;    // 추적이 꺼져 있으면 없을 수 있다
 
 
     @Bean
@@ -73,8 +76,11 @@ public class WebOAuthSecurityConfig {
 
                 // 토큰 재발급 URL 은 인증 없이 접근 가능하도록 설정, 나머지 API URL은 인증 필요
                 .authorizeHttpRequests((auth) -> auth
-                            .dispatcherTypeMatchers(DispatcherType.FORWARD).permitAll()
+                            // 요청(REQUEST) 때 이미 인가를 마친 뒤의 내부 디스패치는 다시 확인하지 않는다.
+                            // 비동기 응답(StreamingResponseBody, CompletableFuture)의 ASYNC 디스패치에는 토큰 필터가 돌지 않아 인증 정보가 없다.
+                            .dispatcherTypeMatchers(DispatcherType.FORWARD, DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                             .requestMatchers("/api/token", "/login", "/oauth2/authorization/kakao", "/login/oauth2/code/kakao").permitAll()
+                            .requestMatchers("/actuator/health").permitAll()    // 헬스 체크 (메트릭은 공개 포트에 열어두지 않고 토큰으로 인증한 수집기만)
 //                            .requestMatchers("/api/**").authenticated()
                             .anyRequest().authenticated()
                 )
@@ -110,7 +116,7 @@ public class WebOAuthSecurityConfig {
                                     if (email != null) {
                                         try {
                                             User user = userService.findByEmail(email);
-                                            refreshTokenRepositoty.deleteByUserId(user.getId());
+                                            refreshTokenService.deleteByUserId(user.getId());
                                             log.info("Deleted refresh token for user: {}", email);
                                         } catch (IllegalArgumentException e) {
                                             log.error("Failed to delete refresh token: {}", e.getMessage());
@@ -126,14 +132,8 @@ public class WebOAuthSecurityConfig {
                                     String refreshToken = getTokenFromCookies(request, "refresh_token");
                                     log.info("Refresh token from Cookie: {}", refreshToken);
                                     if (refreshToken != null) {
-                                        Optional<RefreshToken> token = refreshTokenRepositoty.findByRefreshToken(refreshToken);
-                                        if (token.isPresent()) {
-                                            refreshTokenRepositoty.delete(token.get());
-                                            log.info("Deleted refresh token from Cookie {}", refreshToken);
-                                        }
-                                        else {
-                                            log.warn("No refresh token found in repository for value: {}", refreshToken);
-                                        }
+                                        refreshTokenService.deleteByRefreshToken(refreshToken);
+                                        log.info("Deleted refresh token from Cookie {}", refreshToken);
                                     }
                                 }// end of if ~ else (authentication != null)
                                 // 쿠키 삭제
@@ -148,12 +148,16 @@ public class WebOAuthSecurityConfig {
                             .deleteCookies("access_token", "refresh_token") // 한번 더 삭제
                 )
 
-                // /api로 시작하는 url인 경우 401 상태 코드를 반환하도록 예외 처리
+                // /api, /actuator 로 시작하는 url인 경우 로그인 페이지 대신 401 상태 코드를 반환하도록 예외 처리
                 .exceptionHandling(exception -> exception
                         .defaultAuthenticationEntryPointFor(
                                 new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
                                 new AntPathRequestMatcher("/api/**")
                         )
+                        .defaultAuthenticationEntryPointFor(
+                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                new AntPathRequestMatcher("/actuator/**")
+                        )
                         .accessDeniedHandler((request, response, accessDeniedException) -> {
                             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                             response.setContentType("application/json");
@@ -168,14 +172,14 @@ public class WebOAuthSecurityConfig {
     // 인증 성공 시 handler
     @Bean
     public OAuth2SuccessHandler oAuthSuccessHandler() {
-        return new OAuth2SuccessHandler(tokenProvider, refreshTokenRepositoty
+        return new OAuth2SuccessHandler(tokenProvider, refreshTokenService
                 , oAuth2AuthorizationRequestBasedOnCookieRepository()
-                , userService);
+                , userService, meterRegistry);
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, tracer.getIfAvailable(() -> Tracer.NOOP));
     }
 
     @Bean
@@ -0,0 +1,99 @@
+package com.spring.springbootdeveloper.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.spring.springbootdeveloper.dto.ArticleViewResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+@Component
+public class ArticleCache {
+
+    // 글 한 개 조회 결과(ArticleViewResponse)를 id 로 담아두는 로컬 캐시
+    // 최대 크기를 넘거나 TTL 이 지나면 자동으로 제거된다.
+
+    // 제거할 때마다 올리는 세대 번호, 조회를 시작할 때의 세대가 담을 때까지 그대로일 때만 캐시에 담는다.
+    // id 마다 두면 맵이 계속 커지므로 id 해시로 나눈 고정 개수의 칸을 쓴다. (같은 칸의 다른 id 가 제거되면 한 번 덜 담길 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, ArticleViewResponse> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ArticleCache(ArticleCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()  // 적중, 미스, 제거 횟수 기록
+                .build();
+    }
+
+    // 캐시에 있으면 반환하고 없으면 loader 로 조회해 담은 뒤 반환
+    // cache.get(id, loader) 는 loader(DB 조회) 가 끝날 때까지 내부 맵의 synchronized 잠금을 잡고 있어
+    // 가상 스레드가 캐리어 스레드에 고정되므로, 잠금 밖에서 조회한 뒤 담는다. (동시 미스 시 중복 조회는 허용)
+    // 조회하는 동안 글이 수정되어 제거(evict)되었다면 조회한 값은 수정 전 내용일 수 있으므로 담지 않는다.
+    public ArticleViewResponse get(Long id, Function<Long, ArticleViewResponse> loader) {
+        ArticleViewResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(id);
+        long generation = generations.get(stripe);
+        ArticleViewResponse loaded = loader.apply(id);
+        if (loaded != null) {
+            // 세대 확인과 담기를 같은 키 잠금 안에서 한다. (잠금 안에서는 DB 를 조회하지 않으므로 짧다)
+            // evict 는 세대를 올린 뒤 제거하므로, 확인 후에 세대가 올라가도 뒤이은 제거가 이 값을 지운다.
+            cache.asMap().compute(id, (key, current) -> generations.get(stripe) == generation ? loaded : current);
+        }
+        return loaded;
+    }
+
+    public void put(Long id, ArticleViewResponse article) {
+        cache.put(id, article);
+    }
+
+    public void evict(Long id) {
+        generations.incrementAndGet(stripe(id));
+        cache.invalidate(id);
+    }
+
+    // 트랜잭션 안이라면 커밋 이후에 한 번 더 제거
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 넣는 경우를 막기 위함
+    public void evictAfterCommit(Long id) {
+        evict(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static int stripe(Long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;     // 연속된 id 가 여러 칸에 고르게 퍼지도록 섞는다
+        return (int) (hash >>> 32) & (GENERATION_STRIPES - 1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.spring.springbootdeveloper.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("article.cache")   // application.yml 의 article.cache 값
+public class ArticleCacheProperties {
+
+    private long maximumSize = 10_000;              // 캐시에 담을 최대 글 수
+    private Duration ttl = Duration.ofMinutes(10);  // 캐시에 담긴 후 만료까지의 시간
+}
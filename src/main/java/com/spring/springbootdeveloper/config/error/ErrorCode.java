@@ -12,8 +12,13 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "E2", "잘못된 HTTP 메소드를 호출했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E3", "서버 에러가 발생했습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E4", "존재하지 않는 엔티티입니다."),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "E5", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    CONFLICT(HttpStatus.CONFLICT, "E6", "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해 주세요."),
+    FORBIDDEN(HttpStatus.FORBIDDEN, "E7", "권한이 없습니다."),
 
-    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다.");
+    ARTICLE_NOT_FOUND(HttpStatus.NOT_FOUND, "A1", "존재하지 않는 아티클입니다."),
+    ARTICLE_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "A2", "아티클이 이미 수정되었습니다. 다시 조회한 뒤 수정해 주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "A3", "올바르지 않은 목록 커서입니다. 처음부터 다시 조회해 주세요.");
 
     private final String message;
     private final String code;
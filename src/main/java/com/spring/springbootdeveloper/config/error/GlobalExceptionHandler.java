@@ -2,7 +2,10 @@ package com.spring.springbootdeveloper.config.error;
 
 import com.spring.springbootdeveloper.config.error.exception.BusinessBaseException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -47,6 +50,28 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // 작업 대기열이 가득 차 거절된 경우 (예: 패스워드 해시 스레드 풀) 503 CODE
+    @ExceptionHandler(TaskRejectedException.class)
+    protected ResponseEntity<ErrorResponse> handle(TaskRejectedException e) {
+        log.warn("TaskRejectedException: {}", e.getMessage());
+        return createErrorResponseEntity(ErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    // 다른 사람의 글을 수정, 삭제하려는 경우 403 CODE
+    // Exception 처리 메소드보다 먼저 잡아 500 으로 응답하지 않도록 한다.
+    @ExceptionHandler(AccessDeniedException.class)
+    protected ResponseEntity<ErrorResponse> handle(AccessDeniedException e) {
+        log.warn("AccessDeniedException: {}", e.getMessage());
+        return createErrorResponseEntity(ErrorCode.FORBIDDEN);
+    }
+
+    // 같은 엔티티를 동시에 수정해 @Version 확인에 실패한 경우 409 CODE
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handle(OptimisticLockingFailureException e) {
+        log.warn("OptimisticLockingFailureException: {}", e.getMessage());
+        return createErrorResponseEntity(ErrorCode.CONFLICT);
+    }
+
     // 그 외 예외처리 메소드
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handle(Exception e) {
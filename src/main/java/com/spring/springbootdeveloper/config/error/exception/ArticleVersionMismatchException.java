@@ -0,0 +1,10 @@
+package com.spring.springbootdeveloper.config.error.exception;
+
+import com.spring.springbootdeveloper.config.error.ErrorCode;
+
+public class ArticleVersionMismatchException extends BusinessBaseException {
+
+    public ArticleVersionMismatchException() {
+        super(ErrorCode.ARTICLE_VERSION_MISMATCH);
+    }
+}
@@ -0,0 +1,10 @@
+package com.spring.springbootdeveloper.config.error.exception;
+
+import com.spring.springbootdeveloper.config.error.ErrorCode;
+
+public class InvalidCursorException extends BusinessBaseException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -1,10 +1,17 @@
 package com.spring.springbootdeveloper.config.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import com.spring.springbootdeveloper.domain.User;
+import com.spring.springbootdeveloper.util.TokenDigestUtil;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,18 +19,31 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class TokenProvider {
 
+    static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;  // 검증된 토큰을 담아둘 최대 개수 (벤치마크에서 캐시보다 많은 토큰을 만들 때 참고)
+
     private final JwtProperties jwtProperties;
+    private volatile SigningKey signingKey;     // 비밀값으로 만든 서명 키, 파서와 검증된 토큰 캐시 (비밀값이 바뀔 때만 다시 생성)
+
+    // 검증 결과 카운터 (ApplicationMetrics 에서 Micrometer 로 노출)
+    private final LongAdder validCount = new LongAdder();       // 유효한 토큰 (캐시 적중 포함)
+    private final LongAdder cacheHitCount = new LongAdder();    // 서명 검증 없이 캐시에서 꺼낸 토큰
+    private final Map<InvalidReason, LongAdder> invalidCounts = InvalidReason.newCounters();    // 유효하지 않은 토큰 (이유별)
 
     public String generateToken(User user, Duration expiredAt) {
         Date now = new Date();
@@ -43,26 +63,41 @@ public class TokenProvider {
                 .setSubject(user.getEmail())           // 내용 sub: 유저의 이메일
                 .claim("id", user.getId())      // 클레임 id: 유저 ID
                 // 서명: 비밀값과 함께 해시값을 HS256방식으로 암호화
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .signWith(SignatureAlgorithm.HS256, signingKey().key)
                 .compact();
     }
 
     // JWT 토큰 유효성 검증 메소드
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    // 토큰을 한 번만 검증해 유효하면 클레임을, 유효하지 않으면 null 을 반환
+    // 최근에 검증한 토큰은 캐시에서 바로 꺼내므로 서명 검증을 다시 하지 않는다.
+    public Claims getValidClaims(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey())    // 비밀값으로 복호화
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = getClaims(token);
+            validCount.increment();
+            return claims;
         } catch (Exception e) {     // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false;
+            invalidCounts.get(InvalidReason.of(e)).increment();
+            return null;
         }
     }
 
+    // 토큰을 검증하고 유효하면 인증 정보를, 유효하지 않으면 null 을 반환
+    public Authentication authenticate(String token) {
+        Claims claims = getValidClaims(token);
+        return claims != null ? getAuthentication(claims, token) : null;
+    }
+
 
     // 토큰 기반으로 인증 정보를 가져오는 메소드
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return getAuthentication(getClaims(token), token);
+    }
+
+    private Authentication getAuthentication(Claims claims, String token) {
         Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
 
         return new UsernamePasswordAuthenticationToken(new org.springframework.security.core.userdetails.User(
@@ -77,10 +112,99 @@ public class TokenProvider {
     }
 
 
+    // 캐시에 검증된 토큰이 있으면 바로 반환하고, 없으면 서명을 검증한 뒤 캐시에 담는다.
+    // 캐시는 서명 키마다 따로 두므로, 현재 비밀값의 키를 먼저 확인해야 비밀값이 바뀐 뒤 이전 키로 검증한 토큰을 꺼내지 않는다.
+    // 유효하지 않은 토큰이면 jjwt 예외가 발생한다.
     private Claims getClaims(String token) {
-        return Jwts.parser()    // 클레임 조회
-                .setSigningKey(jwtProperties.getSecretKey())
+        SigningKey current = signingKey();
+        String digest = TokenDigestUtil.sha256(token);
+        Claims cached = current.verifiedTokens.get(digest);
+        if (cached != null) {
+            cacheHitCount.increment();
+            return cached;
+        }
+
+        Claims claims = current.parser    // 클레임 조회
                 .parseClaimsJws(token)
                 .getBody();
+        current.verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    // 현재 비밀값에 맞는 서명 키를 반환
+    // 매 요청마다 비밀값을 Base64 디코딩하고 파서를 새로 만들지 않도록 한 번 만든 키를 재사용한다.
+    // 비밀값이 바뀌면 빈 캐시를 가진 새 키로 교체되므로 이전 비밀값으로 검증한 토큰은 더 이상 쓰이지 않는다.
+    private SigningKey signingKey() {
+        String secretKey = jwtProperties.getSecretKey();
+        SigningKey current = this.signingKey;
+
+        if (current == null || !current.secretKey.equals(secretKey)) {     // 처음이거나 설정값이 바뀐 경우
+            current = new SigningKey(secretKey);
+            this.signingKey = current;
+        }
+        return current;
+    }
+
+    public long getValidCount() {
+        return validCount.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getInvalidCount(InvalidReason reason) {
+        return invalidCounts.get(reason).sum();
+    }
+
+    // 토큰이 유효하지 않은 이유 (jjwt 예외 종류로 구분)
+    public enum InvalidReason {
+        EXPIRED,        // 만료
+        SIGNATURE,      // 서명 불일치 (다른 비밀값으로 서명, 위조)
+        MALFORMED,      // JWT 형식이 아님
+        UNSUPPORTED,    // 서명되지 않은 토큰 등 지원하지 않는 형식
+        EMPTY,          // 빈 토큰
+        OTHER;
+
+        static InvalidReason of(Exception e) {
+            if (e instanceof ExpiredJwtException) {
+                return EXPIRED;
+            }
+            if (e instanceof SignatureException) {
+                return SIGNATURE;
+            }
+            if (e instanceof MalformedJwtException) {
+                return MALFORMED;
+            }
+            if (e instanceof UnsupportedJwtException) {
+                return UNSUPPORTED;
+            }
+            if (e instanceof IllegalArgumentException) {
+                return EMPTY;
+            }
+            return OTHER;
+        }
+
+        private static Map<InvalidReason, LongAdder> newCounters() {
+            Map<InvalidReason, LongAdder> counters = new EnumMap<>(InvalidReason.class);
+            for (InvalidReason reason : values()) {
+                counters.put(reason, new LongAdder());
+            }
+            return counters;
+        }
+    }
+
+    private static final class SigningKey {
+        private final String secretKey;
+        private final Key key;
+        private final JwtParser parser;
+        private final VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);   // 이 키로 검증한 토큰
+
+        private SigningKey(String secretKey) {
+            this.secretKey = secretKey;
+            // jjwt 의 signWith(alg, String), setSigningKey(String) 과 같은 방식으로 Base64 디코딩
+            this.key = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+            this.parser = Jwts.parser().setSigningKey(key);     // 비밀값으로 복호화
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.spring.springbootdeveloper.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+public class VerifiedTokenCache {
+
+    // 서명 검증을 통과한 토큰의 클레임을 담아두는 캐시
+    // 키는 토큰의 SHA-256 해시이고, 각 항목은 토큰의 만료 시간(exp)이 되면 제거된다.
+
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiration(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;    // 조회해도 만료 시간은 바뀌지 않음
+                    }
+                })
+                .build();
+    }
+
+    // 캐시에 있고 아직 만료되지 않은 토큰이면 클레임 반환, 아니면 null
+    public Claims get(String digest) {
+        Claims claims = cache.getIfPresent(digest);
+        if (claims == null || isExpired(claims)) {
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String digest, Claims claims) {
+        if (!isExpired(claims)) {
+            cache.put(digest, claims);
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    // exp 클레임이 없는 토큰은 캐시에 오래 두지 않는다.
+    private static long nanosUntilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return TimeUnit.MINUTES.toNanos(1);
+        }
+        long millis = expiration.getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+    }
+}
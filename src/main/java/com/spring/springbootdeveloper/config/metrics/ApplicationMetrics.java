@@ -0,0 +1,95 @@
+package com.spring.springbootdeveloper.config.metrics;
+
+import com.spring.springbootdeveloper.config.TokenAuthenticationFilter;
+import com.spring.springbootdeveloper.config.cache.ArticleCache;
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.config.password.PasswordHasher;
+import com.spring.springbootdeveloper.config.thread.VirtualThreadPinningMonitor;
+import com.spring.springbootdeveloper.service.ArticleSearchService;
+import com.spring.springbootdeveloper.service.ArticleViewCounter;
+import com.spring.springbootdeveloper.service.RefreshTokenPurgeJob;
+import com.spring.springbootdeveloper.service.RefreshTokenService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+// 각 컴포넌트가 LongAdder 로 모아 둔 카운터를 Micrometer 미터로 노출 (/actuator/prometheus)
+// 요청 경로에서는 LongAdder 만 올리고, 수집할 때 getter 로 합계를 읽으므로 요청 처리 비용이 늘지 않는다.
+// HTTP 요청(http.server.requests), 리포지토리 호출(spring.data.repository.invocations) 타이머와
+// Hibernate 2차 캐시 적중, 미스(hibernate.second.level.cache.requests) 는 스프링 부트가 만든다.
+@Component
+@RequiredArgsConstructor
+public class ApplicationMetrics implements MeterBinder {
+
+    private final TokenAuthenticationFilter tokenAuthenticationFilter;
+    private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final ArticleCache articleCache;
+    private final ArticleViewCounter articleViewCounter;
+    private final ArticleSearchService articleSearchService;
+    private final PasswordHasher passwordHasher;
+    private final ObjectProvider<RefreshTokenPurgeJob> refreshTokenPurgeJob;               // jpa 저장소일 때만
+    private final ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor; // 가상 스레드 모드일 때만
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 토큰 인증 필터: 요청의 토큰 상태별 수
+        counter(registry, "token.filter.requests", tokenAuthenticationFilter, TokenAuthenticationFilter::getAuthenticatedCount, "result", "authenticated");
+        counter(registry, "token.filter.requests", tokenAuthenticationFilter, TokenAuthenticationFilter::getInvalidTokenCount, "result", "invalid");
+        counter(registry, "token.filter.requests", tokenAuthenticationFilter, TokenAuthenticationFilter::getAnonymousCount, "result", "anonymous");
+        FunctionTimer.builder("token.filter.sampled", tokenAuthenticationFilter,
+                        TokenAuthenticationFilter::getSampledCount, TokenAuthenticationFilter::getSampledNanos, TimeUnit.NANOSECONDS)
+                .description("Token filter processing time (1 in 100 requests)")
+                .register(registry);
+
+        // 토큰 검증: 결과, 실패 이유별 수
+        counter(registry, "token.validations", tokenProvider, TokenProvider::getValidCount, "result", "valid");
+        for (TokenProvider.InvalidReason reason : TokenProvider.InvalidReason.values()) {
+            counter(registry, "token.validations", tokenProvider, provider -> provider.getInvalidCount(reason),
+                    "result", reason.name().toLowerCase(Locale.ROOT));
+        }
+        counter(registry, "token.validations.cache.hits", tokenProvider, TokenProvider::getCacheHitCount);
+
+        // 리프레시 토큰 조회
+        counter(registry, "refresh.token.lookups", refreshTokenService, RefreshTokenService::getLookupHitCount, "result", "hit");
+        counter(registry, "refresh.token.lookups", refreshTokenService, RefreshTokenService::getLookupMissCount, "result", "miss");
+        refreshTokenPurgeJob.ifAvailable(job -> {
+            counter(registry, "refresh.token.purge.runs", job, RefreshTokenPurgeJob::getRunCount);
+            counter(registry, "refresh.token.purged", job, RefreshTokenPurgeJob::getPurgedCount);
+        });
+
+        // 글 캐시, 조회수, 검색
+        counter(registry, "article.cache.requests", articleCache, cache -> cache.stats().hitCount(), "result", "hit");
+        counter(registry, "article.cache.requests", articleCache, cache -> cache.stats().missCount(), "result", "miss");
+        counter(registry, "article.cache.evictions", articleCache, cache -> cache.stats().evictionCount());
+        Gauge.builder("article.cache.size", articleCache, ArticleCache::size).register(registry);
+        counter(registry, "article.views.flushed", articleViewCounter, ArticleViewCounter::getFlushedViews);
+        counter(registry, "article.views.flushes", articleViewCounter, ArticleViewCounter::getFlushCount);
+        FunctionTimer.builder("article.search", articleSearchService,
+                        ArticleSearchService::getSearchCount, ArticleSearchService::getSearchNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+
+        // 회원가입 해시 대기열이 가득 차 거절한 요청 수
+        counter(registry, "password.hash.rejected", passwordHasher, PasswordHasher::getRejectedCount);
+
+        virtualThreadPinningMonitor.ifAvailable(monitor ->
+                FunctionTimer.builder("virtual.thread.pinned", monitor,
+                                VirtualThreadPinningMonitor::getPinnedCount, VirtualThreadPinningMonitor::getPinnedNanos, TimeUnit.NANOSECONDS)
+                        .register(registry));
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToDoubleFunction<T> count, String... tags) {
+        FunctionCounter.builder(name, target, count)
+                .tags(tags)
+                .register(registry);
+    }
+}
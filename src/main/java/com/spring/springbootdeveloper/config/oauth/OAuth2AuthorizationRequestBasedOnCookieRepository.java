@@ -22,7 +22,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         Cookie cookie = WebUtils.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
-        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+        return CookieUtil.deserialize(cookie);
     }
 
     @Override
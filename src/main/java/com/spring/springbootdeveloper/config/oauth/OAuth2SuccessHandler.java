@@ -1,17 +1,19 @@
 package com.spring.springbootdeveloper.config.oauth;
 
 import com.spring.springbootdeveloper.config.jwt.TokenProvider;
-import com.spring.springbootdeveloper.domain.RefreshToken;
 import com.spring.springbootdeveloper.domain.User;
-import com.spring.springbootdeveloper.repository.RefreshTokenRepositoty;
+import com.spring.springbootdeveloper.service.RefreshTokenService;
 import com.spring.springbootdeveloper.service.UserService;
 import com.spring.springbootdeveloper.util.CookieUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -30,11 +32,13 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     public static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(14);   // 재발급 토큰 유효기간 (14일)
     public static final Duration ACCESS_TOKEN_DURATION = Duration.ofDays(1);     // 접속 유효 기간 1일
     public static final String REDIRECT_PATH = "/articles";     // 접속 시 REDIRECT 경로
+    public static final String LOGIN_METRIC = "oauth.logins";   // 제공자(provider), 결과(result)별 로그인 수
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepositoty refreshTokenRepositoty;
+    private final RefreshTokenService refreshTokenService;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository authorizationRequestRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     // 인증에 성공했을 시 메소드
     @Override
@@ -79,13 +83,27 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             clearAuthenticationAttributes(request, response);
 
             // 리다이렉트
+            countLogin(authentication, "success");
             getRedirectStrategy().sendRedirect(request, response, targetUrl);
         } catch (IllegalArgumentException e) {
+            countLogin(authentication, "user_not_found");
             log.error("Failed to find for email: {}. Redirecting to login {}", email, e.getMessage());
             response.sendRedirect("/login?error=user_not_found");
         }
     }// end of public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication)
 
+    // 로그인 수를 제공자(registrationId)별로 기록, 카운터는 레지스트리가 태그 조합마다 한 번만 만든다.
+    private void countLogin(Authentication authentication, String result) {
+        String provider = authentication instanceof OAuth2AuthenticationToken oauth2Authentication
+                ? oauth2Authentication.getAuthorizedClientRegistrationId()
+                : "unknown";
+        Counter.builder(LOGIN_METRIC)
+                .tag("provider", provider)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
     // 액세스 토큰을 쿠키에 넣는 메소드
     private void addAccessTokenToCookie(HttpServletResponse response, String accessToken) {
         Cookie accessTokenCookie = new Cookie("access_token", accessToken);
@@ -98,11 +116,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     // 생성된 리프레시 토큰을 전달받아 데이터베이스에 저장
     private void saveRefreshToken(Long userId, String newRefreshToken) {
-        RefreshToken refreshToken = refreshTokenRepositoty.findByUserId(userId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshToken(userId, newRefreshToken));
+        refreshTokenService.save(userId, newRefreshToken);
         log.info("Saved refresh token for userId: {}", userId);
-        refreshTokenRepositoty.save(refreshToken);
     }
 
     // 생성된 리프레시 토큰을 쿠키에 저장
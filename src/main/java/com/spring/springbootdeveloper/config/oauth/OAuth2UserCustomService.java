@@ -110,7 +110,7 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
             email = providerId + "_" + attributes.get("id");
         }
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByNaturalId(email)
                 .map(entity -> entity.update(name))
                 .orElse(User.builder()
                         .email(email)
@@ -0,0 +1,37 @@
+package com.spring.springbootdeveloper.config.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Configuration
+public class PasswordEncoderConfig {
+
+    private final PasswordEncoderProperties properties;
+
+    // 애플리케이션 전체에서 하나만 사용하는 패스워드 인코더
+    // 저장되는 해시는 {bcrypt}$2a$... 처럼 알고리즘 id 가 붙으므로 알고리즘을 바꿔도 기존 해시를 그대로 검증할 수 있다.
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(PasswordEncoderProperties.Algorithm.BCRYPT.getId(), bCryptPasswordEncoder);
+        encoders.put(PasswordEncoderProperties.Algorithm.ARGON2.getId(), Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put(PasswordEncoderProperties.Algorithm.PBKDF2.getId(), Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(properties.getAlgorithm().getId(), encoders);
+        // 이전에 접두사 없이 저장된 BCrypt 해시도 검증할 수 있도록 한다.
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return passwordEncoder;
+    }
+}
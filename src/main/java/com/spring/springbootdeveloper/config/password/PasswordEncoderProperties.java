@@ -0,0 +1,36 @@
+package com.spring.springbootdeveloper.config.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("password")    // application.yml 의 password 값
+public class PasswordEncoderProperties {
+
+    private Algorithm algorithm = Algorithm.BCRYPT; // 새로 저장할 비밀번호의 해시 알고리즘
+    private int bcryptStrength = 10;                // BCrypt cost (4 ~ 31, 1 증가할 때마다 2배 느려진다)
+
+    // 해시 전용 스레드 풀. 요청 스레드(Tomcat)가 해시 계산 동안 묶이지 않도록 분리한다.
+    private int poolSize = 2;           // 해시 전용 스레드 수 (application.yml 의 password.pool-size 와 같은 값, 이유는 그쪽 주석)
+    private int queueCapacity = 100;    // 대기열이 가득 차면 요청을 거절 (503)
+
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        ARGON2("argon2"),
+        PBKDF2("pbkdf2");
+
+        private final String id;    // DelegatingPasswordEncoder 가 해시 앞에 붙이는 {id}
+
+        Algorithm(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.spring.springbootdeveloper.config.password;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class PasswordHasher {
+
+    // 비밀번호 해시를 크기가 정해진 전용 스레드 풀에서 계산한다.
+    // 회원가입이 몰려도 해시 계산은 poolSize 개까지만 동시에 돌고, 대기열을 넘는 요청은 바로 거절되므로
+    // 서블릿 스레드 풀 전체가 해시 계산에 묶이지 않는다.
+    // 스프링 빈으로 등록하지 않은 실행기를 사용해 스프링 부트 기본 applicationTaskExecutor 설정에 영향을 주지 않는다.
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordEncoderProperties properties) {
+        this.passwordEncoder = passwordEncoder;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+    }
+
+    // 대기열이 가득 차면 TaskRejectedException 을 던진다. (GlobalExceptionHandler 에서 503 응답)
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (TaskRejectedException e) {
+            rejectedCount.increment();
+            throw e;
+        }
+    }
+
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,99 @@
+package com.spring.springbootdeveloper.config.thread;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)  // spring.threads.virtual.enabled=true 일 때만
+@ConditionalOnProperty(name = "virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    // 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어(플랫폼) 스레드에 고정(pinning)되어
+    // 그동안 다른 가상 스레드가 해당 캐리어를 쓰지 못한다. JFR 의 jdk.VirtualThreadPinned 이벤트를 구독해
+    // 고정 횟수, 시간을 집계하고 처음 보는 스택은 경고 로그로 남긴다.
+    // (일회성 확인은 -Djdk.tracePinnedThreads=short 로도 가능)
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final VirtualThreadPinningProperties properties;
+    private final Set<String> loggedStacks = ConcurrentHashMap.newKeySet();
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+        } catch (IllegalStateException | SecurityException e) {
+            // JFR 를 사용할 수 없는 런타임
+            log.warn("Virtual thread pinning monitor disabled: {}", e.getMessage());
+            return;
+        }
+
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(properties.getThreshold())
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold: {})", properties.getThreshold());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        String stack = formatStack(event.getStackTrace());
+        if (loggedStacks.size() < properties.getMaxLoggedStacks() && loggedStacks.add(stack)) {
+            log.warn("Virtual thread pinned for {} ms\n{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\tat <unknown>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public long getPinnedNanos() {
+        return pinnedNanos.sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
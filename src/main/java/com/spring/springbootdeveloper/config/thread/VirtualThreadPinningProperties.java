@@ -0,0 +1,19 @@
+package com.spring.springbootdeveloper.config.thread;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("virtual-threads.pinning")  // application.yml 의 virtual-threads.pinning 값
+public class VirtualThreadPinningProperties {
+
+    private boolean enabled = true;                         // 가상 스레드 모드일 때 고정(pinning) 감시 여부
+    private Duration threshold = Duration.ofMillis(20);     // 이 시간 이상 캐리어 스레드에 고정된 경우만 기록
+    private int maxLoggedStacks = 100;                      // 경고 로그를 남길 서로 다른 스택 수 (같은 스택은 한 번만 로그)
+}
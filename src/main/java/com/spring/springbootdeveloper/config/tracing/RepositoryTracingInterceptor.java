@@ -0,0 +1,37 @@
+package com.spring.springbootdeveloper.config.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.function.Supplier;
+
+// 리포지토리 메소드 호출마다 "<리포지토리>.<메소드>" span 을 만든다. (Hibernate 조회, 쿼리 실행 시간 포함)
+class RepositoryTracingInterceptor implements MethodInterceptor {
+
+    private final Supplier<Tracer> tracer;
+    private final String repositoryName;
+
+    RepositoryTracingInterceptor(Supplier<Tracer> tracer, Class<?> repositoryInterface) {
+        this.tracer = tracer;
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer tracer = this.tracer.get();
+        Span span = tracer.nextSpan()
+                .name(repositoryName + "." + invocation.getMethod().getName())
+                .tag("repository", repositoryName)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
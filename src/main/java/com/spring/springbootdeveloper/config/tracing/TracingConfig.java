@@ -0,0 +1,62 @@
+package com.spring.springbootdeveloper.config.tracing;
+
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.function.Supplier;
+
+// 요청 span(http.server.requests) 아래에 토큰 검증, 리포지토리 호출, 뷰 렌더링 span 을 붙인다.
+// 샘플링은 요청이 들어올 때 한 번 정한다. (management.tracing.sampling.probability, 상위 span 의 결정을 따름)
+// 샘플링되지 않은 요청의 span 은 기록되지 않으므로 비용이 거의 없다.
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    private final Supplier<Tracer> tracer;
+
+    public TracingConfig(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracerSupplier(tracer);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderingTracingInterceptor(tracer));
+    }
+
+    // 모든 Spring Data 리포지토리 프록시에 RepositoryTracingInterceptor 추가
+    // (BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 Tracer 는 처음 호출될 때 찾는다)
+    @Bean
+    static BeanPostProcessor repositoryTracingBeanPostProcessor(ObjectProvider<Tracer> tracer) {
+        Supplier<Tracer> tracerSupplier = tracerSupplier(tracer);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryTracingInterceptor(tracerSupplier, repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // tracing.export-file 을 설정하면 파일로도 내보낸다. (스프링 부트가 BatchSpanProcessor 로 감싼다)
+    @Bean
+    @ConditionalOnExpression("!'${tracing.export-file:}'.isEmpty()")
+    SpanExporter fileSpanExporter(TracingProperties properties) {
+        return new FileSpanExporter(properties.getExportFile());
+    }
+
+    private static Supplier<Tracer> tracerSupplier(ObjectProvider<Tracer> tracer) {
+        return SingletonSupplier.of(() -> tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+}
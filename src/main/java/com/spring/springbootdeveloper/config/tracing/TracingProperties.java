@@ -0,0 +1,17 @@
+package com.spring.springbootdeveloper.config.tracing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("tracing")     // application.yml 의 tracing 값
+public class TracingProperties {
+
+    private Path exportFile;    // 설정하면 샘플링된 span 을 한 줄에 하나씩 JSON 으로 기록 (없으면 내보내지 않음)
+}
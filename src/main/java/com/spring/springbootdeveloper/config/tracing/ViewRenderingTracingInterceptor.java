@@ -0,0 +1,55 @@
+package com.spring.springbootdeveloper.config.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.function.Supplier;
+
+// 컨트롤러가 뷰를 반환한 요청의 렌더링(Thymeleaf) 시간을 span 으로 남긴다.
+// postHandle 에서 시작해 렌더링이 끝난 뒤 호출되는 afterCompletion 에서 끝낸다. (같은 스레드)
+class ViewRenderingTracingInterceptor implements HandlerInterceptor {
+
+    private static final String SPAN_ATTRIBUTE = ViewRenderingTracingInterceptor.class.getName() + ".span";
+
+    private final Supplier<Tracer> tracer;
+
+    ViewRenderingTracingInterceptor(Supplier<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || !modelAndView.hasView()) {     // REST 응답, 304 응답
+            return;
+        }
+
+        Tracer tracer = this.tracer.get();
+        Span span = tracer.nextSpan().name("view render");
+        if (modelAndView.getViewName() != null) {
+            span.tag("view", modelAndView.getViewName());
+        }
+        span.start();
+        request.setAttribute(SPAN_ATTRIBUTE, new RenderSpan(span, tracer.withSpan(span)));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SPAN_ATTRIBUTE) instanceof RenderSpan renderSpan)) {
+            return;
+        }
+        request.removeAttribute(SPAN_ATTRIBUTE);
+
+        renderSpan.scope().close();
+        if (ex != null) {
+            renderSpan.span().error(ex);
+        }
+        renderSpan.span().end();
+    }
+
+    private record RenderSpan(Span span, Tracer.SpanInScope scope) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.spring.springbootdeveloper.controller;
+
+import com.spring.springbootdeveloper.service.ArticleExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class ArticleExportApiController {
+
+    private final ArticleExportService articleExportService;
+
+    // 전체 글 내보내기 (백업, 분석용)
+    // 한 줄에 글 하나씩 NDJSON 으로 응답하며, Accept-Encoding 에 gzip 이 있으면 압축해서 보낸다.
+    // 응답은 요청 스레드가 아닌 비동기 스레드에서 쓰므로 시간 제한은 spring.mvc.async.request-timeout 을 따른다.
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                articleExportService.exportTo(gzipOut);
+                gzipOut.finish();   // 압축 마무리 (응답 스트림은 닫지 않는다)
+            }
+            else {
+                articleExportService.exportTo(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(gzip ? "articles.ndjson.gz" : "articles.ndjson")
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
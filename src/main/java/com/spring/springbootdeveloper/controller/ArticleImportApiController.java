@@ -0,0 +1,31 @@
+package com.spring.springbootdeveloper.controller;
+
+import com.spring.springbootdeveloper.dto.ArticleImportResponse;
+import com.spring.springbootdeveloper.service.ArticleImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+
+@RestController
+@RequiredArgsConstructor
+public class ArticleImportApiController {
+
+    private final ArticleImportService articleImportService;
+
+    // 글 일괄 등록 (JSON 배열 또는 NDJSON)
+    // 요청 본문을 한 번에 읽지 않고 한 행씩 읽어 저장하므로 큰 파일도 메모리를 많이 쓰지 않는다.
+    // 일부 행이 실패해도 나머지는 저장되며, 실패한 행은 응답의 errors 에 담긴다.
+    @PostMapping(value = "/api/articles/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ArticleImportResponse> importArticles(InputStream body, Principal principal) throws IOException {
+        ArticleImportResponse response = articleImportService.importArticles(body, principal.getName());
+
+        return ResponseEntity.ok().body(response);
+    }
+}
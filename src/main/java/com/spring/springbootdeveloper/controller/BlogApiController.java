@@ -2,14 +2,25 @@ package com.spring.springbootdeveloper.controller;
 
 import com.spring.springbootdeveloper.domain.Article;
 import com.spring.springbootdeveloper.dto.AddArticleRequest;
+import com.spring.springbootdeveloper.dto.ArticleListViewResponse;
+import com.spring.springbootdeveloper.dto.ArticlePageResponse;
 import com.spring.springbootdeveloper.dto.ArticleResponse;
+import com.spring.springbootdeveloper.dto.ArticleRevision;
+import com.spring.springbootdeveloper.dto.ArticleSearchResponse;
+import com.spring.springbootdeveloper.dto.ArticleViewCountResponse;
+import com.spring.springbootdeveloper.dto.ArticleViewResponse;
+import com.spring.springbootdeveloper.dto.AuthorArticlePageResponse;
 import com.spring.springbootdeveloper.dto.UpdateArticleRequest;
+import com.spring.springbootdeveloper.service.ArticleSearchService;
 import com.spring.springbootdeveloper.service.BlogService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -18,7 +29,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BlogApiController {
 
+    // 캐시에 저장해도 되지만 사용하기 전에 매번 ETag/Last-Modified 로 재검증하도록 한다.
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
     private final BlogService blogService;
+    private final ArticleSearchService articleSearchService;
 
     // 글 등록
     @PostMapping("/api/articles")
@@ -29,23 +44,81 @@ public class BlogApiController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saveArticle);
     }
 
-    // 글 전체 조회
-    @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
+    // 글 전체 조회 (after, size 파라미터가 없을 때만)
+    // 글 수, 최대 id, 버전 합계로 만든 ETag 가 If-None-Match 와 같으면 글을 읽지 않고 304 로 응답
+    @GetMapping(value = "/api/articles", params = {"!after", "!size"})
+    public ResponseEntity<List<ArticleResponse>> findAllArticles(WebRequest webRequest) {
+        if (webRequest.checkNotModified(blogService.findAllRevision().getEtag())) {
+            return notModified();
+        }
+
         List<ArticleResponse> articles = blogService.findAll()
                 .stream()   // 자바8 기능으로 여러 데이터가 모여있는 컬렉션을 간편하게 처리하기 위함?
                 .map(ArticleResponse::new)
                 .toList();
 
-        return ResponseEntity.ok().body(articles);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(articles);
+    }
+
+    // 글 목록 커서 기반 조회 ?after=<마지막으로 받은 id>&size=N
+    // 요약 조회는 이미 가벼우므로 조회한 페이지로 ETag 를 만들고, 같으면 본문 직렬화, 전송만 생략한다.
+    @GetMapping("/api/articles")
+    public ResponseEntity<ArticlePageResponse<ArticleListViewResponse>> findArticlePage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+        ArticlePageResponse<ArticleListViewResponse> page = blogService.findPage(after, size);
+        if (webRequest.checkNotModified(ArticleRevision.of(page).getEtag())) {
+            return notModified();
+        }
+
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(page);
+    }
+
+    // 작성자별 글 목록 조회 (최신 글부터) ?before=<이전 응답의 nextCursor>&size=N
+    @GetMapping("/api/users/{author}/articles")
+    public ResponseEntity<AuthorArticlePageResponse> findArticlesByAuthor(
+            @PathVariable String author,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok()
+                .body(blogService.findPageByAuthor(author, before, size));
+    }
+
+    // 글 검색 ?q=검색어&size=N (제목, 본문 색인에서 점수 순으로 조회)
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<List<ArticleSearchResponse>> searchArticles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
+        List<ArticleSearchResponse> results = articleSearchService.search(q, size)
+                .stream()
+                .map(ArticleSearchResponse::new)
+                .toList();
+
+        return ResponseEntity.ok().body(results);
+    }
+
+    // 조회수가 가장 많은 글 목록 ?size=N
+    @GetMapping("/api/articles/most-viewed")
+    public ResponseEntity<List<ArticleViewCountResponse>> findMostViewedArticles(
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok()
+                .body(blogService.findMostViewed(size));
     }
 
     // 글 한 개 조회
+    // 캐시에 담긴 글의 id, 버전으로 만든 ETag 와 수정 시간(Last-Modified) 이 요청 헤더와 같으면 본문 없이 304 로 응답
+    // DB 는 캐시에 없을 때만 조회한다.
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) {
-        Article article = blogService.findById(id);
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, WebRequest webRequest) {
+        ArticleViewResponse article = blogService.findViewById(id);
+        ArticleRevision revision = ArticleRevision.of(article);
+        if (webRequest.checkNotModified(revision.getEtag(), revision.getLastModified())) {
+            return notModified();
+        }
 
         return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
                 .body(new ArticleResponse(article));
     }
 
@@ -59,11 +132,27 @@ public class BlogApiController {
     }
 
     // 글 수정
+    // If-Match 에 조회 때 받은 ETag 를 담아 보내면 그 사이 다른 사람이 수정한 경우 412 로 거절한다.
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request) {
-        Article updateArticle = blogService.update(id, request);
+    // 수정 후 버전은 If-Match 로 알려준 버전 + 1 이므로 그때만 새 ETag 를 응답 헤더에 담는다.
+    public ResponseEntity<ArticleResponse> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ArticleRevision.expectedVersion(id, ifMatch);
+        ArticleResponse updateArticle = blogService.update(id, request, expectedVersion);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (expectedVersion != null) {
+            response.eTag(ArticleRevision.etagOf(id, expectedVersion + 1));
+        }
+        return response.body(updateArticle);
+    }
+
 
-        return ResponseEntity.ok().body(updateArticle);
+    // checkNotModified 가 ETag, Last-Modified 헤더와 304 상태를 이미 설정해 두었으므로 본문 없이 응답
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(REVALIDATE)
+                .build();
     }
 
 }
@@ -1,16 +1,22 @@
 package com.spring.springbootdeveloper.controller;
 
-import com.spring.springbootdeveloper.domain.Article;
 import com.spring.springbootdeveloper.dto.ArticleListViewResponse;
+import com.spring.springbootdeveloper.dto.ArticlePageResponse;
+import com.spring.springbootdeveloper.dto.ArticleRevision;
 import com.spring.springbootdeveloper.dto.ArticleViewResponse;
+import com.spring.springbootdeveloper.dto.AuthorArticlePageResponse;
 import com.spring.springbootdeveloper.service.BlogService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.security.Principal;
 
 @Controller
 public class BlogViewController {
@@ -22,22 +28,45 @@ public class BlogViewController {
         this.blogService = blogService;
     }
 
-    // 글 목록 조회
+    // 글 목록 조회 (커서 기반, after 이후의 글을 size 개 만큼)
+    // 조회한 페이지의 ETag 가 If-None-Match 와 같으면 화면을 다시 그리지 않고 304 로 응답
+    // 글 한 개 화면은 볼 때마다 조회수가 올라가므로 조건부 GET 을 적용하지 않는다.
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse :: new)
-                .toList();
+    public String getArticles(@RequestParam(required = false) Long after,
+                              @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+                              Model model, WebRequest webRequest, HttpServletResponse response) {
+        ArticlePageResponse<ArticleListViewResponse> page = blogService.findPage(after, size);
 
-        model.addAttribute("articles", articles);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (webRequest.checkNotModified(ArticleRevision.of(page).getEtag())) {
+            return null;    // 304 응답이 이미 설정되어 있으므로 뷰를 렌더링하지 않는다
+        }
+
+        model.addAttribute("articles", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("size", size);
         return "articleList";
     }// end of public String getArticles(Model model) -----------------
 
+    // 내가 쓴 글 목록 조회 (최신 글부터, before 커서 이전의 글을 size 개 만큼)
+    @GetMapping("/my-articles")
+    public String getMyArticles(@RequestParam(required = false) String before,
+                                @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+                                Principal principal, Model model) {
+        AuthorArticlePageResponse page = blogService.findPageByAuthor(principal.getName(), before, size);
+
+        model.addAttribute("articles", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("size", size);
+        return "myArticleList";
+    }// end of public String getMyArticles(...) -----------------
+
     // 글 한 개 조회
     @GetMapping("/articles/{id}")
     public String getArticle(@PathVariable Long id, Model model) {
-        Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
+        ArticleViewResponse article = blogService.findViewById(id);
+        model.addAttribute("article", article);
+        model.addAttribute("viewCount", blogService.increaseViewCount(article));  // 조회수 증가 (DB 에는 나중에 모아서 반영)
 
         return "article";
     }// end of public String getArticle(@PathVariable Long id, Model model) ------------
@@ -50,8 +79,7 @@ public class BlogViewController {
             model.addAttribute("article", new ArticleViewResponse());
         }
         else {  // 수정
-            Article article = blogService.findById(id);
-            model.addAttribute("article", new ArticleViewResponse(article));
+            model.addAttribute("article", blogService.findViewById(id));
         }
         return "newArticle";
     }// end of public String newArticle(@RequestParam(required = false) Long id, Model model) -----------
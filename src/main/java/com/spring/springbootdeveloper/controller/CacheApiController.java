@@ -0,0 +1,22 @@
+package com.spring.springbootdeveloper.controller;
+
+import com.spring.springbootdeveloper.config.cache.ArticleCache;
+import com.spring.springbootdeveloper.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheApiController {
+
+    private final ArticleCache articleCache;
+
+    // 글 캐시 통계 조회
+    @GetMapping("/api/caches/articles")
+    public ResponseEntity<CacheStatsResponse> articleCacheStats() {
+        return ResponseEntity.ok()
+                .body(new CacheStatsResponse(articleCache.size(), articleCache.stats()));
+    }
+}
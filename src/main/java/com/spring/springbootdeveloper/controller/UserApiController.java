@@ -12,6 +12,8 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Controller
 public class UserApiController {
@@ -19,9 +21,10 @@ public class UserApiController {
     private final UserService userService;
     
     @PostMapping("/user")
-    public String signup(AddUserRequest request) {
-        userService.save(request);  // 회원가입 메소드 호출
-        return "redirect:/login";   // 회원가입 이후 로그인 페이지로 이동
+    public CompletableFuture<String> signup(AddUserRequest request) {
+        // 회원가입 메소드 호출, 패스워드 해시 동안 요청 스레드를 반환한다. (비동기 처리)
+        return userService.saveAsync(request)
+                .thenApply(id -> "redirect:/login");   // 회원가입 이후 로그인 페이지로 이동
     }
 
 //    @GetMapping("/logout")
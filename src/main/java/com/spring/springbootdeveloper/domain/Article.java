@@ -5,18 +5,30 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "article", indexes = {
+        // 작성자별 글 목록 (where author = ? order by created_at desc, id desc)
+        @Index(name = "idx_article_author_created_at", columnList = "author, created_at")
+})
+@EntityListeners(AuditingEntityListener.class)  // @CreatedDate, @LastModifiedDate 값을 채운다 (@EnableJpaAuditing 과 함께 필요)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 기본생성자 = protected Article() {}
 public class Article {
 
+    public static final int ID_ALLOCATION_SIZE = 50;    // 시퀀스 한 번 조회로 미리 받아두는 id 수 (hibernate.jdbc.batch_size 와 맞춘다)
+
+    // IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 JDBC 배치 INSERT 가 불가능하므로 시퀀스(pooled)를 사용
+    // 시퀀스가 없는 DB(MySQL)에서는 Hibernate 가 article_seq 테이블로 대신한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq_generator")
+    @SequenceGenerator(name = "article_seq_generator", sequenceName = "article_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -30,8 +42,20 @@ public class Article {
     private String author;
 
 
+    // 조회수는 ArticleViewCounter 가 모아서 JDBC 로 더하므로 엔티티 수정 시에는 덮어쓰지 않는다.
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    // 낙관적 락 버전, 엔티티를 수정할 때마다 1씩 증가하고 UPDATE 시 WHERE version = ? 로 동시 수정을 감지한다.
+    // 조회수는 JDBC 로 따로 더하므로 버전을 올리지 않는다. (ETag 도 이 값으로 만든다)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @CreatedDate    // 엔티티가 생성될 때 생성 시간 저장
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createAt;
 
     @LastModifiedDate   // 엔티티가 수정될 때 수정 시간 저장
@@ -45,9 +69,5 @@ public class Article {
         this.content = content;
     }
 
-    public void update(String title, String content) {
-        this.title = title;
-        this.content = content;
-    }
-
+    // 수정은 BlogRepository.updateByIdAndAuthor 로만 한다. (작성자, 버전 조건을 UPDATE 문에 함께 건다)
 }
@@ -1,15 +1,32 @@
 package com.spring.springbootdeveloper.domain;
 
+import com.spring.springbootdeveloper.util.TokenDigestUtil;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.LocalDateTime;
+
+import static com.spring.springbootdeveloper.config.oauth.OAuth2SuccessHandler.REFRESH_TOKEN_DURATION;
+
+@Table(name = "refresh_token", indexes = {
+        // 만료된 토큰 정리 (where expires_at <= ?), 토큰 조회는 token_hash unique 인덱스를 사용
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+// 토큰 재발급 시 token_hash 조회 결과(쿼리 캐시, id 목록)와 함께 사용
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RefreshToken.CACHE_REGION)
 public class RefreshToken {
 
+    public static final String CACHE_REGION = "refresh-tokens";
+    public static final String LOOKUP_QUERY_CACHE_REGION = "refresh-token-lookups";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
@@ -21,14 +38,32 @@ public class RefreshToken {
     @Column(name = "refresh_token", nullable = false)
     private String refreshToken;
 
+    // 조회용 토큰 해시 (SHA-256, 43자 고정 길이, unique 인덱스)
+    @Column(name = "token_hash", nullable = false, unique = true, length = 43)
+    private String tokenHash;
+
+    // 만료 시간, 지나면 조회되지 않고 정리 작업(RefreshTokenPurgeJob)에서 삭제된다.
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
     public RefreshToken(Long userId, String refreshToken) {
+        this(userId, refreshToken, LocalDateTime.now().plus(REFRESH_TOKEN_DURATION));
+    }
+
+    public RefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.refreshToken = refreshToken;
+        update(refreshToken, expiresAt);
     }
 
-    public RefreshToken update(String newRefreshToken) {
+    public RefreshToken update(String newRefreshToken, LocalDateTime expiresAt) {
         this.refreshToken = newRefreshToken;
+        this.tokenHash = TokenDigestUtil.sha256(newRefreshToken);
+        this.expiresAt = expiresAt;
         return this;
     }
 
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
 }
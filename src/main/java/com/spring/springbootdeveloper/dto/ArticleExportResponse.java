@@ -0,0 +1,28 @@
+package com.spring.springbootdeveloper.dto;
+
+import com.spring.springbootdeveloper.domain.Article;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ArticleExportResponse {
+
+    // 글 내보내기(NDJSON) 한 줄에 해당하는 DTO
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ArticleExportResponse(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.author = article.getAuthor();
+        this.createdAt = article.getCreateAt();
+        this.updatedAt = article.getUpdatedAt();
+    }
+}
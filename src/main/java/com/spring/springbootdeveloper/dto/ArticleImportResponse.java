@@ -0,0 +1,35 @@
+package com.spring.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ArticleImportResponse {
+
+    // 글 일괄 등록 결과 DTO
+    // 행 번호(row)는 입력 순서대로 1부터 시작한다.
+
+    private final long total;       // 읽은 행 수
+    private final long imported;    // 저장된 행 수
+    private final long failed;      // 실패한 행 수
+    private final List<RowError> errors;
+
+    public ArticleImportResponse(long total, long imported, long failed, List<RowError> errors) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    @Getter
+    public static class RowError {
+        private final long row;
+        private final String message;
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+    }
+}
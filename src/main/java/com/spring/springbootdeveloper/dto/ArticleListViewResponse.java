@@ -1,20 +1,28 @@
 package com.spring.springbootdeveloper.dto;
 
-import com.spring.springbootdeveloper.domain.Article;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class ArticleListViewResponse {
 
     // 전체 글 조회 DTO
+    // BlogRepository 에서 JPQL 생성자 표현식으로 바로 만들어지므로 엔티티를 거치지 않는다.
+
+    public static final int EXCERPT_LENGTH = 100;   // 목록에 보여줄 본문 미리보기 길이
 
     private final Long id;
     private final String title;
-    private final String content;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+    private final long version;     // 목록 ETag 계산에 사용
 
-    public ArticleListViewResponse(Article article) {
-        this.id = article.getId();
-        this.title = article.getTitle();
-        this.content = article.getContent();
+    public ArticleListViewResponse(Long id, String title, String excerpt, LocalDateTime createdAt, long version) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.createdAt = createdAt;
+        this.version = version;
     }
 }
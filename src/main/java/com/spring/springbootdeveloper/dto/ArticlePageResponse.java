@@ -0,0 +1,36 @@
+package com.spring.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class ArticlePageResponse<T> {
+
+    // 커서(keyset) 기반 글 목록 조회 DTO
+    // nextCursor 를 다음 요청의 after 값으로 넘기면 이어서 조회할 수 있다.
+
+    private final List<T> items;
+    private final Long nextCursor;  // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public ArticlePageResponse(List<T> items, Long nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // size + 1 개를 조회한 결과로 페이지를 만든다. 한 개가 더 있으면 다음 페이지가 존재
+    public static <T> ArticlePageResponse<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? idExtractor.apply(items.get(items.size() - 1)) : null;
+
+        return new ArticlePageResponse<>(items, nextCursor, hasNext);
+    }
+
+    public <R> ArticlePageResponse<R> map(Function<T, R> mapper) {
+        return new ArticlePageResponse<>(items.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -6,10 +6,24 @@ import lombok.Getter;
 @Getter
 public class ArticleResponse {
 
+    private final Long id;
     private final String title;
     private final String content;
 
+    public ArticleResponse(Long id, String title, String content) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+    }
+
     public ArticleResponse(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+    }
+
+    public ArticleResponse(ArticleViewResponse article) {
+        this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
     }
@@ -0,0 +1,93 @@
+package com.spring.springbootdeveloper.dto;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+public class ArticleRevision {
+
+    // 조건부 요청(If-None-Match / If-Modified-Since / If-Match) 에 사용하는 글의 버전 정보 DTO
+    // 본문 없이 id, 버전, 수정 시간만으로 ETag, Last-Modified 를 만든다.
+
+    private final String etag;
+    private final long lastModified;    // epoch millis, 알 수 없으면 -1 (Last-Modified 헤더를 보내지 않는다)
+
+    // 글 한 개 (id, 버전, 수정 시간)
+    public ArticleRevision(Long id, Long version, LocalDateTime updatedAt) {
+        this(etagOf(id, version), toEpochMilli(updatedAt));
+    }
+
+    // 글 전체 (글 수, 최대 id, 버전 합계)
+    // 글이 수정되면 버전 합계가, 추가되면 최대 id 가, 삭제되면 글 수가 바뀐다.
+    // 삭제는 수정 시간에 남지 않으므로 Last-Modified 없이 ETag 로만 비교한다.
+    public ArticleRevision(Long count, Long maxId, Long versionSum) {
+        this(digestOf(count, maxId, versionSum), -1L);
+    }
+
+    private ArticleRevision(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // 캐시에 담긴 글 한 개 (DB 를 조회하지 않는다)
+    public static ArticleRevision of(ArticleViewResponse article) {
+        return new ArticleRevision(article.getId(), article.getVersion(), article.getUpdatedAt());
+    }
+
+    // 커서 기반 목록 한 페이지 (페이지에 담긴 글의 id, 버전과 다음 커서)
+    public static ArticleRevision of(ArticlePageResponse<ArticleListViewResponse> page) {
+        Object[] parts = new Object[page.getItems().size() * 2 + 1];
+        int index = 0;
+        for (ArticleListViewResponse item : page.getItems()) {
+            parts[index++] = item.getId();
+            parts[index++] = item.getVersion();
+        }
+        parts[index] = page.getNextCursor();
+
+        return new ArticleRevision(digestOf(parts), -1L);
+    }
+
+    // 글 한 개의 ETag, "<id>-<version>" 형태의 강한(strong) ETag
+    public static String etagOf(long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // If-Match 헤더에서 이 글에 대해 기대하는 버전을 꺼낸다.
+    // 헤더가 없거나 "*" 이면 null (버전을 확인하지 않음), 이 글의 ETag 가 하나도 없으면 -1 (어떤 버전과도 맞지 않음)
+    // If-Match 는 강한 비교를 하므로 W/ 로 시작하는 약한 ETag 는 맞지 않는 것으로 본다.
+    public static Long expectedVersion(long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(trimmed.substring(prefix.length(), trimmed.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // 다음 ETag 확인
+                }
+            }
+        }
+        return -1L;
+    }
+
+    // 값들을 이어 붙인 문자열의 MD5 를 큰따옴표로 감싼 강한(strong) ETag
+    private static String digestOf(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : parts) {
+            builder.append(part).append(':');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
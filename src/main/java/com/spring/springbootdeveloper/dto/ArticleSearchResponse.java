@@ -0,0 +1,20 @@
+package com.spring.springbootdeveloper.dto;
+
+import com.spring.springbootdeveloper.search.ArticleSearchIndex;
+import lombok.Getter;
+
+@Getter
+public class ArticleSearchResponse {
+
+    // 글 검색 결과 DTO (점수 높은 순)
+
+    private final Long id;
+    private final String title;
+    private final double score;
+
+    public ArticleSearchResponse(ArticleSearchIndex.Hit hit) {
+        this.id = hit.id();
+        this.title = hit.title();
+        this.score = hit.score();
+    }
+}
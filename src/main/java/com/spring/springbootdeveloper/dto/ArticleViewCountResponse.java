@@ -0,0 +1,21 @@
+package com.spring.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ArticleViewCountResponse {
+
+    // 조회수가 가장 많은 글 목록 DTO
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final long viewCount;
+
+    public ArticleViewCountResponse(ArticleViewResponse article, long viewCount) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.author = article.getAuthor();
+        this.viewCount = viewCount;
+    }
+}
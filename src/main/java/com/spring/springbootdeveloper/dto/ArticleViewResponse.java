@@ -15,6 +15,9 @@ public class ArticleViewResponse {
     private String content;
     private LocalDateTime createdAt;
     private String author;
+    private long viewCount;     // 캐시에 담긴 시점의 DB 조회수 (화면에는 ArticleViewCounter 의 값을 보여준다)
+    private long version;       // 조건부 GET 의 ETag, Last-Modified 를 캐시에 담긴 값으로 만든다. (수정되면 캐시에서 제거된다)
+    private LocalDateTime updatedAt;
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
@@ -22,5 +25,8 @@ public class ArticleViewResponse {
         this.content = article.getContent();
         this.createdAt = article.getCreateAt();
         this.author = article.getAuthor();
+        this.viewCount = article.getViewCount();
+        this.version = article.getVersion();
+        this.updatedAt = article.getUpdatedAt();
     }
 }
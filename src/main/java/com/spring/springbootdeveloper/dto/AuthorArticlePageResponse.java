@@ -0,0 +1,60 @@
+package com.spring.springbootdeveloper.dto;
+
+import com.spring.springbootdeveloper.config.error.exception.InvalidCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+@Getter
+public class AuthorArticlePageResponse {
+
+    // 작성자별 글 목록 조회 DTO (최신 글부터, keyset 기반)
+    // 정렬 기준이 (created_at desc, id desc) 이므로 커서도 두 값을 담는다.
+    // nextCursor 를 다음 요청의 before 값으로 넘기면 이어서 조회할 수 있다.
+
+    private final List<ArticleListViewResponse> items;
+    private final String nextCursor;    // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public AuthorArticlePageResponse(List<ArticleListViewResponse> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // size + 1 개를 조회한 결과로 페이지를 만든다. 한 개가 더 있으면 다음 페이지가 존재
+    public static AuthorArticlePageResponse of(List<ArticleListViewResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<ArticleListViewResponse> items = hasNext ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleListViewResponse last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new AuthorArticlePageResponse(items, nextCursor, hasNext);
+    }
+
+    // 마지막으로 받은 글의 (작성 시간, id), 클라이언트에는 URL-safe Base64 문자열로 전달
+    public record Cursor(LocalDateTime createdAt, long id) {
+
+        public String encode() {
+            String raw = createdAt + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int comma = raw.lastIndexOf(',');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new InvalidCursorException();
+            }
+        }
+    }
+}
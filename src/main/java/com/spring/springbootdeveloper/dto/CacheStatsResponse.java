@@ -0,0 +1,24 @@
+package com.spring.springbootdeveloper.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+
+@Getter
+public class CacheStatsResponse {
+
+    // 캐시 적중/미스/제거 횟수 조회 DTO
+
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final double hitRate;
+
+    public CacheStatsResponse(long size, CacheStats stats) {
+        this.size = size;
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.evictionCount = stats.evictionCount();
+        this.hitRate = stats.hitRate();
+    }
+}
@@ -1,7 +1,92 @@
 package com.spring.springbootdeveloper.repository;
 
 import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.dto.ArticleListViewResponse;
+import com.spring.springbootdeveloper.dto.ArticleRevision;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BlogRepository extends JpaRepository<Article, Long> {
+
+    int EXPORT_FETCH_SIZE = 1_000;  // 내보내기 시 DB 에서 한 번에 가져올 행 수
+
+    // 커서(id) 이후의 글 요약을 id 순으로 조회 (PK 인덱스 범위 스캔, OFFSET 없음)
+    // 엔티티 대신 DTO 로 바로 조회하므로 영속성 컨텍스트에 올라가지 않고, 본문은 잘라서 가져온다.
+    @Query("select new com.spring.springbootdeveloper.dto.ArticleListViewResponse("
+            + "a.id, a.title, substring(a.content, 1, " + ArticleListViewResponse.EXCERPT_LENGTH + "), a.createAt, a.version) "
+            + "from Article a where a.id > :after order by a.id asc")
+    List<ArticleListViewResponse> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    // 작성자의 글 요약을 최신 글부터 조회 (첫 페이지)
+    // (author, created_at) 인덱스 범위를 역순으로 읽으므로 정렬, 전체 스캔 없이 size 개만 읽는다.
+    @Query("select new com.spring.springbootdeveloper.dto.ArticleListViewResponse("
+            + "a.id, a.title, substring(a.content, 1, " + ArticleListViewResponse.EXCERPT_LENGTH + "), a.createAt, a.version) "
+            + "from Article a where a.author = :author "
+            + "order by a.createAt desc, a.id desc")
+    List<ArticleListViewResponse> findSummariesByAuthor(@Param("author") String author, Pageable pageable);
+
+    // 작성자의 글 요약을 커서 (createdAt, id) 이전부터 최신 글 순으로 조회 (다음 페이지)
+    // created_at <= ? 를 따로 두어 인덱스 범위 조건으로 쓰고, 같은 시간의 글은 id 로 구분한다.
+    @Query("select new com.spring.springbootdeveloper.dto.ArticleListViewResponse("
+            + "a.id, a.title, substring(a.content, 1, " + ArticleListViewResponse.EXCERPT_LENGTH + "), a.createAt, a.version) "
+            + "from Article a where a.author = :author "
+            + "and a.createAt <= :createdAt and (a.createAt < :createdAt or a.id < :id) "
+            + "order by a.createAt desc, a.id desc")
+    List<ArticleListViewResponse> findSummariesByAuthorBefore(@Param("author") String author,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Pageable pageable);
+
+    // 조건부 GET 용 글 전체의 버전 정보 (글 수, 최대 id, 버전 합계)
+    @Query("select new com.spring.springbootdeveloper.dto.ArticleRevision(count(a), max(a.id), sum(a.version)) "
+            + "from Article a")
+    ArticleRevision findAllRevision();
+
+    // 작성자 본인의 글만 수정 (권한 확인과 수정을 UPDATE 한 번으로 처리), 수정된 행 수 반환
+    // JPQL 벌크 연산은 @Version, 감사(auditing)를 거치지 않으므로 버전과 수정 시간을 직접 올린다.
+    // expectedVersion 이 null 이면 버전을 확인하지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update Article a set a.title = :title, a.content = :content, "
+            + "a.version = a.version + 1, a.updatedAt = :updatedAt "
+            + "where a.id = :id and a.author = :author "
+            + "and (:expectedVersion is null or a.version = :expectedVersion)")
+    int updateByIdAndAuthor(@Param("id") Long id,
+                            @Param("author") String author,
+                            @Param("expectedVersion") Long expectedVersion,
+                            @Param("title") String title,
+                            @Param("content") String content,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 작성자 본인의 글만 삭제 (권한 확인과 삭제를 DELETE 한 번으로 처리), 삭제된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Article a where a.id = :id and a.author = :author")
+    int deleteByIdAndAuthor(@Param("id") Long id, @Param("author") String author);
+
+    // 수정, 삭제된 행이 없을 때 원인(없는 글 / 다른 작성자)을 구분하기 위한 조회
+    @Query("select a.author from Article a where a.id = :id")
+    Optional<String> findAuthorById(@Param("id") Long id);
+
+    // 검색 색인 재구성용, id 이후의 글을 id 순으로 조회
+    List<Article> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 전체 글 내보내기용, 모든 글을 id 순으로 한 행씩 읽는다. (트랜잭션 안에서 사용하고 반드시 닫아야 한다)
+    // 읽기 전용으로 조회해 변경 감지용 스냅샷을 만들지 않는다.
+    // MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 나누어 가져온다. (없으면 결과 전체를 메모리에 올림)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Article a order by a.id asc")
+    Stream<Article> streamAllOrderById();
 }
@@ -0,0 +1,90 @@
+package com.spring.springbootdeveloper.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.spring.springbootdeveloper.util.TokenDigestUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.spring.springbootdeveloper.config.oauth.OAuth2SuccessHandler.REFRESH_TOKEN_DURATION;
+
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // 로컬 메모리에 저장하는 리프레시 토큰 저장소
+    // 토큰 해시로 O(1) 조회하고, 리프레시 토큰 유효기간(REFRESH_TOKEN_DURATION)이 지나면 자동으로 제거된다.
+    // 서버가 재시작되면 토큰이 사라지므로 단일 서버 환경에서만 사용한다.
+
+    private final Cache<String, StoredToken> tokens;                           // 토큰 해시 -> 토큰
+    private final Map<Long, String> tokenHashByUserId = new ConcurrentHashMap<>();   // 유저 ID -> 토큰 해시
+
+    public InMemoryRefreshTokenStore() {
+        this(REFRESH_TOKEN_DURATION);
+    }
+
+    InMemoryRefreshTokenStore(Duration ttl) {
+        this.tokens = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .scheduler(Scheduler.systemScheduler())     // 조회가 없어도 만료된 토큰을 제때 제거
+                .<String, StoredToken>removalListener((tokenHash, token, cause) -> {
+                    if (token != null && cause.wasEvicted()) {
+                        tokenHashByUserId.remove(token.userId, tokenHash);
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken) {
+        String tokenHash = TokenDigestUtil.sha256(refreshToken);
+        String previous = tokenHashByUserId.put(userId, tokenHash);
+        if (previous != null && !previous.equals(tokenHash)) {
+            tokens.invalidate(previous);    // 이전 토큰은 더 이상 사용할 수 없다
+        }
+        tokens.put(tokenHash, new StoredToken(userId, refreshToken));
+    }
+
+    @Override
+    public Optional<Long> findUserIdByRefreshToken(String refreshToken) {
+        StoredToken token = tokens.getIfPresent(TokenDigestUtil.sha256(refreshToken));
+        if (token == null || !token.refreshToken.equals(refreshToken)) {
+            return Optional.empty();
+        }
+        return Optional.of(token.userId);
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        String tokenHash = tokenHashByUserId.remove(userId);
+        if (tokenHash != null) {
+            tokens.invalidate(tokenHash);
+        }
+    }
+
+    @Override
+    public void deleteByRefreshToken(String refreshToken) {
+        String tokenHash = TokenDigestUtil.sha256(refreshToken);
+        StoredToken token = tokens.getIfPresent(tokenHash);
+        if (token != null) {
+            tokenHashByUserId.remove(token.userId, tokenHash);
+            tokens.invalidate(tokenHash);
+        }
+    }
+
+    private static final class StoredToken {
+        private final Long userId;
+        private final String refreshToken;
+
+        private StoredToken(Long userId, String refreshToken) {
+            this.userId = userId;
+            this.refreshToken = refreshToken;
+        }
+    }
+}
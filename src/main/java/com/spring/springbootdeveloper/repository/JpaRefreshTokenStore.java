@@ -0,0 +1,60 @@
+package com.spring.springbootdeveloper.repository;
+
+import com.spring.springbootdeveloper.domain.RefreshToken;
+import com.spring.springbootdeveloper.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.spring.springbootdeveloper.config.oauth.OAuth2SuccessHandler.REFRESH_TOKEN_DURATION;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    // DB 에 저장하는 리프레시 토큰 저장소 (기본값)
+    // 토큰 원문 대신 고정 길이 해시(token_hash) 인덱스로 조회한다.
+
+    private final RefreshTokenRepositoty refreshTokenRepositoty;
+
+    @Override
+    @Transactional
+    public void save(Long userId, String refreshToken) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(REFRESH_TOKEN_DURATION);
+        RefreshToken token = refreshTokenRepositoty.findByUserId(userId)
+                .map(entity -> entity.update(refreshToken, expiresAt))
+                .orElse(new RefreshToken(userId, refreshToken, expiresAt));
+        refreshTokenRepositoty.save(token);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findUserIdByRefreshToken(String refreshToken) {
+        return findByRefreshToken(refreshToken)
+                .map(RefreshToken::getUserId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByUserId(Long userId) {
+        refreshTokenRepositoty.deleteByUserId(userId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByRefreshToken(String refreshToken) {
+        findByRefreshToken(refreshToken)
+                .ifPresent(refreshTokenRepositoty::delete);
+    }
+
+    private Optional<RefreshToken> findByRefreshToken(String refreshToken) {
+        return refreshTokenRepositoty.findByTokenHash(TokenDigestUtil.sha256(refreshToken))
+                .filter(entity -> entity.getRefreshToken().equals(refreshToken))
+                .filter(entity -> !entity.isExpired(LocalDateTime.now()));    // 만료된 토큰은 정리 전이라도 사용할 수 없다
+    }
+}
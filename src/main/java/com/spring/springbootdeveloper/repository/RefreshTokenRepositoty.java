@@ -1,14 +1,41 @@
 package com.spring.springbootdeveloper.repository;
 
 import com.spring.springbootdeveloper.domain.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepositoty extends JpaRepository<RefreshToken, Long> {
 
     Optional<RefreshToken> findByUserId(Long userId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+
+    // token_hash unique 인덱스로 조회, 결과는 쿼리 캐시에 담는다. (refresh_token 테이블이 바뀌면 Hibernate 가 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = RefreshToken.LOOKUP_QUERY_CACHE_REGION)
+    })
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 //    void deleteByRefreshToken(String refreshToken);
     void deleteByUserId(Long id);
+
+    // 만료된 토큰의 id 를 pageable 크기만큼 조회 (정리 작업에서 나누어 삭제하기 위함)
+    @Query("select r.id from RefreshToken r where r.expiresAt <= :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회한 id 중 아직 만료된 토큰만 삭제, 삭제된 행 수 반환
+    // 조회와 삭제 사이에 다시 로그인하면 같은 행(같은 id)이 새 토큰, 새 만료 시간으로 바뀌므로 만료 조건을 한 번 더 확인한다.
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids and r.expiresAt <= :now")
+    int deleteExpiredByIdIn(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 }
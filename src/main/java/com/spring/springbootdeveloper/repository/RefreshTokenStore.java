@@ -0,0 +1,19 @@
+package com.spring.springbootdeveloper.repository;
+
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+
+    // 리프레시 토큰 저장소
+    // refresh-token.store 설정값으로 구현체를 선택한다. (jpa: DB 저장(기본값), memory: 로컬 메모리 저장)
+
+    // 유저의 리프레시 토큰 저장 (유저당 하나, 이미 있으면 교체)
+    void save(Long userId, String refreshToken);
+
+    // 리프레시 토큰으로 유저 ID 조회
+    Optional<Long> findUserIdByRefreshToken(String refreshToken);
+
+    void deleteByUserId(Long userId);
+
+    void deleteByRefreshToken(String refreshToken);
+}
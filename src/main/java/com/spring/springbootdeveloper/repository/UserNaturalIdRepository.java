@@ -0,0 +1,12 @@
+package com.spring.springbootdeveloper.repository;
+
+import com.spring.springbootdeveloper.domain.User;
+
+import java.util.Optional;
+
+// email(natural id) 로 사용자 조회 (UserRepository 에 합쳐진다)
+public interface UserNaturalIdRepository {
+
+    // 2차 캐시의 email -> id 캐시, 엔티티 캐시를 먼저 확인하고 없을 때만 DB 를 조회한다.
+    Optional<User> findByNaturalId(String email);
+}
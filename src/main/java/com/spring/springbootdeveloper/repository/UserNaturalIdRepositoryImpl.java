@@ -0,0 +1,24 @@
+package com.spring.springbootdeveloper.repository;
+
+import com.spring.springbootdeveloper.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // email 조건의 JPQL 쿼리(findByEmail 같은 파생 쿼리)는 항상 DB 를 조회하지만, natural id 조회는 2차 캐시를 사용한다.
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByNaturalId(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -3,9 +3,6 @@ package com.spring.springbootdeveloper.repository;
 import com.spring.springbootdeveloper.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByEmail(String email);   // email로 사용자 정보를 가져옴
+// email 로 조회할 때는 2차 캐시를 쓰는 findByNaturalId (UserNaturalIdRepository) 를 사용한다.
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 }
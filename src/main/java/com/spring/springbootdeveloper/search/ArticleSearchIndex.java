@@ -0,0 +1,223 @@
+package com.spring.springbootdeveloper.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ArticleSearchIndex {
+
+    // 글 제목, 본문의 역색인 (토큰 -> 글 id -> 출현 빈도)
+    // 검색 결과는 BM25 점수 순으로 정렬하며, 제목에 나온 토큰은 TITLE_BOOST 배로 계산한다.
+    // 읽기(검색)는 동시에, 쓰기(등록, 수정, 삭제)는 한 번에 하나씩 처리한다.
+
+    static final int TITLE_BOOST = 3;
+    private static final double K1 = 1.2;   // 출현 빈도 포화 정도
+    private static final double B = 0.75;   // 문서 길이 보정 정도
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    // 글을 색인한다. 이미 색인된 글이면 새 내용으로 교체
+    public void index(long id, String title, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : KoreanNgramTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : KoreanNgramTokenizer.tokenize(content)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            put(id, new Document(title, length, termFrequencies));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어 토큰이 하나라도 들어간 글을 점수 순으로 최대 limit 개 반환
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    int length = documents.get(entry.getKey()).length();
+                    double score = idf * frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+
+            // 점수 상위 limit 개만 남긴다. (점수가 같으면 최신 글 우선)
+            Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, order);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Long, Double> entry = top.poll();
+                hits.add(new Hit(entry.getKey(), documents.get(entry.getKey()).title(), entry.getValue()));
+            }
+            Collections.reverse(hits);  // 점수 높은 순
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long maxId() {
+        lock.readLock().lock();
+        try {
+            return documents.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인 내용을 저장 (글마다 id, 제목, 길이, 토큰별 빈도)
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                Document document = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeUTF(document.title());
+                out.writeInt(document.length());
+                out.writeInt(document.termFrequencies().size());
+                for (Map.Entry<String, Integer> term : document.termFrequencies().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // writeTo() 로 저장한 내용으로 색인을 교체
+    public void readFrom(DataInput in) throws IOException {
+        int documentCount = in.readInt();
+        Map<Long, Document> loaded = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long id = in.readLong();
+            String title = in.readUTF();
+            int length = in.readInt();
+            int termCount = in.readInt();
+            Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                termFrequencies.put(in.readUTF(), in.readInt());
+            }
+            loaded.put(id, new Document(title, length, termFrequencies));
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            loaded.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void put(long id, Document document) {
+        removeDocument(id);
+        documents.put(id, document);
+        totalLength += document.length();
+        document.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void removeDocument(long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private record Document(String title, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    public record Hit(long id, String title, double score) {
+    }
+}
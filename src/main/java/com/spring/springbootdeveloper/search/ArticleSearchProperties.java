@@ -0,0 +1,18 @@
+package com.spring.springbootdeveloper.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("article.search")  // application.yml 의 article.search 값
+public class ArticleSearchProperties {
+
+    private String indexDir;                // 색인 스냅샷 저장 디렉터리 (비어 있으면 저장하지 않고 매번 DB 에서 다시 만든다)
+    private int rebuildBatchSize = 500;     // 색인 재구성 시 한 번에 읽을 글 수
+    private int maxResults = 50;            // 한 번에 반환할 최대 검색 결과 수
+    private int maxQueryLength = 100;       // 검색어 최대 길이 (넘는 부분은 무시)
+}
@@ -0,0 +1,75 @@
+package com.spring.springbootdeveloper.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class KoreanNgramTokenizer {
+
+    // 검색 색인용 토크나이저
+    // 한글은 조사, 어미가 단어에 붙어 있어("스프링을", "스프링에서") 공백 기준으로 자르면 검색이 되지 않으므로
+    // 한글(및 한자, 가나) 구간은 2글자 단위(bigram)로 자른다. 한 글자짜리 구간은 그대로 토큰이 된다.
+    // 영문, 숫자 구간은 소문자로 바꾼 단어 단위로 자른다.
+    //   "스프링부트 JPA 입문" -> [스프, 프링, 링부, 부트, jpa, 입문]
+
+    public static final int MAX_TOKEN_LENGTH = 40;  // 이보다 긴 영문, 숫자 단어는 잘라서 색인
+
+    private KoreanNgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        // 전각 문자, 호환 자모 등을 정규화
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        int length = normalized.length();
+        int index = 0;
+
+        while (index < length) {
+            char c = normalized.charAt(index);
+
+            if (isCjk(c)) {
+                int start = index;
+                while (index < length && isCjk(normalized.charAt(index))) {
+                    index++;
+                }
+                addBigrams(normalized, start, index, tokens);
+            }
+            else if (Character.isLetterOrDigit(c)) {
+                int start = index;
+                while (index < length && Character.isLetterOrDigit(normalized.charAt(index)) && !isCjk(normalized.charAt(index))) {
+                    index++;
+                }
+                String word = normalized.substring(start, Math.min(index, start + MAX_TOKEN_LENGTH));
+                tokens.add(word.toLowerCase());
+            }
+            else {
+                index++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+                || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+                || block == Character.UnicodeBlock.HIRAGANA
+                || block == Character.UnicodeBlock.KATAKANA;
+    }
+}
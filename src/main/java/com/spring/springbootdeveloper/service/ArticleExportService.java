@@ -0,0 +1,57 @@
+package com.spring.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.dto.ArticleExportResponse;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleExportService {
+
+    // 전체 글을 NDJSON(한 줄에 JSON 객체 하나)으로 내보낸다.
+    // 글 목록을 메모리에 모으지 않고 DB 커서에서 한 행씩 읽어 바로 출력하므로 글 수와 관계없이 메모리 사용량이 일정하다.
+
+    private final BlogRepository blogRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 내보낸 글 수를 반환
+    @Transactional(readOnly = true)     // 스트림을 읽는 동안 커넥션, 커서를 유지
+    public long exportTo(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long count = 0;
+
+        try (Stream<Article> articles = blogRepository.streamAllOrderById();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 최상위 값 사이에 기본으로 넣는 공백 대신 줄바꿈만 직접 쓴다. (두 번째 줄부터 앞에 공백이 붙지 않도록)
+            generator.setRootValueSeparator(null);
+
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                generator.writeObject(new ArticleExportResponse(article));
+                generator.writeRaw('\n');
+                entityManager.detach(article);  // 영속성 컨텍스트에 쌓이지 않도록 바로 분리
+                count++;
+            }
+        }
+
+        log.info("Exported {} articles in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+}
@@ -0,0 +1,184 @@
+package com.spring.springbootdeveloper.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.springbootdeveloper.config.ArticleImportProperties;
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.dto.AddArticleRequest;
+import com.spring.springbootdeveloper.dto.ArticleImportResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    // 글 일괄 등록 (이전 CMS 이관용)
+    // JSON 배열 또는 NDJSON 을 한 행씩 읽어 검증하고, batch-size 개씩 한 트랜잭션으로 저장한다.
+    // 글 id 는 시퀀스(pooled)로 미리 받아두므로 Hibernate 가 INSERT 를 JDBC 배치로 묶어 보낸다. (hibernate.jdbc.batch_size)
+    // 잘못된 행은 건너뛰고 행 번호와 사유를 응답에 담는다.
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleImportProperties properties;
+
+    public ArticleImportService(ObjectMapper objectMapper, Validator validator, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, ArticleSearchService articleSearchService,
+                                ArticleImportProperties properties) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.articleSearchService = articleSearchService;
+        this.properties = properties;
+    }
+
+    public ArticleImportResponse importArticles(InputStream in, String author) throws IOException {
+        long start = System.nanoTime();
+        Result result = new Result(properties.getMaxReportedErrors());
+        List<Row> batch = new ArrayList<>(properties.getBatchSize());
+
+        // 배열([ {...}, {...} ])과 NDJSON({...}\n{...}) 모두 한 행씩 읽는다.
+        try (MappingIterator<AddArticleRequest> rows = objectMapper.readerFor(AddArticleRequest.class).readValues(in)) {
+            long rowNumber = 0;
+            while (true) {
+                AddArticleRequest request;
+                rowNumber++;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonParseException e) {
+                    // JSON 문법 오류는 이후 행의 경계를 알 수 없으므로 중단
+                    result.fail(rowNumber, "malformed JSON: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException e) {
+                    // 값의 타입이 맞지 않는 행은 건너뛰고 다음 행부터 계속 읽는다.
+                    result.fail(rowNumber, "invalid row: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String violation = validate(request);
+                if (violation != null) {
+                    result.fail(rowNumber, violation);
+                    continue;
+                }
+
+                batch.add(new Row(rowNumber, request.toEntity(author)));
+                if (batch.size() >= properties.getBatchSize()) {
+                    saveBatch(batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        saveBatch(batch, result);
+
+        log.info("Imported {} of {} articles in {} ms", result.imported, result.total(), (System.nanoTime() - start) / 1_000_000);
+        return result.toResponse();
+    }
+
+    private String validate(AddArticleRequest request) {
+        if (request == null) {
+            return "empty row";
+        }
+        Set<ConstraintViolation<AddArticleRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    // 한 트랜잭션으로 저장. 실패하면 어느 행이 문제인지 알 수 있도록 한 행씩 다시 저장한다.
+    private void saveBatch(List<Row> batch, Result result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistAll(batch));
+            result.imported += batch.size();
+            batch.forEach(row -> articleSearchService.index(row.article()));
+        } catch (RuntimeException e) {
+            log.warn("Batch import failed, retrying {} rows one by one: {}", batch.size(), e.getMessage());
+            for (Row row : batch) {
+                Article article = copyOf(row.article());    // 실패한 트랜잭션에서 id 가 채워졌을 수 있으므로 새로 만든다
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persistAll(List.of(new Row(row.number(), article))));
+                    result.imported++;
+                    articleSearchService.index(article);
+                } catch (RuntimeException rowException) {
+                    result.fail(row.number(), "could not save: " + rowException.getMessage());
+                }
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 호출
+    private void persistAll(List<Row> rows) {
+        for (Row row : rows) {
+            entityManager.persist(row.article());
+        }
+        entityManager.flush();
+        entityManager.clear();  // 저장한 엔티티가 영속성 컨텍스트에 쌓이지 않도록
+    }
+
+    private static Article copyOf(Article article) {
+        return Article.builder()
+                .author(article.getAuthor())
+                .title(article.getTitle())
+                .content(article.getContent())
+                .build();
+    }
+
+    private record Row(long number, Article article) {
+    }
+
+    private static final class Result {
+        private final int maxReportedErrors;
+        private final List<ArticleImportResponse.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private Result(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ArticleImportResponse.RowError(row, message));
+            }
+        }
+
+        long total() {
+            return imported + failed;
+        }
+
+        ArticleImportResponse toResponse() {
+            errors.sort(Comparator.comparingLong(ArticleImportResponse.RowError::getRow));
+            return new ArticleImportResponse(total(), imported, failed, errors);
+        }
+    }
+}
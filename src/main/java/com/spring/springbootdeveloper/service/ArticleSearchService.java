@@ -0,0 +1,266 @@
+package com.spring.springbootdeveloper.service;
+
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import com.spring.springbootdeveloper.search.ArticleSearchIndex;
+import com.spring.springbootdeveloper.search.ArticleSearchProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+
+    // 글 검색 (ArticleSearchIndex) 관리
+    // - BlogService 의 등록, 수정, 삭제 시 색인을 바로 갱신한다.
+    // - 정상 종료 시 색인을 index-dir 에 스냅샷으로 저장하고, 시작 시 스냅샷을 읽는다.
+    //   스냅샷은 읽은 뒤 바로 지우므로, 비정상 종료 후에는 스냅샷이 없어 DB 에서 다시 만든다.
+    //   저장할 때의 DB 버전 정보(글 수, 최대 id, 버전 합계)가 지금과 다르면 (종료 중에 DB 가 바뀐 경우) 스냅샷을 버리고 다시 만든다.
+    // - 다시 만들 때는 새 색인을 채운 뒤 교체하므로 그동안에도 이전 색인으로 검색된다.
+
+    private static final String SNAPSHOT_FILE_NAME = "articles.idx";
+    private static final int SNAPSHOT_MAGIC = 0x41524958;   // "ARIX"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private final BlogRepository blogRepository;
+    private final ArticleSearchProperties properties;
+    private final ReentrantLock rebuildLock = new ReentrantLock();     // 다시 만들기는 한 번에 하나만
+
+    private volatile ArticleSearchIndex index = new ArticleSearchIndex();   // 검색에 쓰는 색인, 다시 만들면 통째로 교체
+    private volatile Rebuild rebuilding;                                    // 다시 만드는 중일 때만 있다
+
+    private final LongAdder searchCount = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.nanoTime();
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+        log.info("Article search index ready: {} articles in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // DB 의 모든 글로 새 색인을 만든 뒤 교체한다. (id 순으로 rebuild-batch-size 개씩)
+    // 만드는 동안의 등록, 수정, 삭제는 지금 색인과 새 색인에 모두 반영하고, 새 색인에서는 DB 에서 읽은 값보다 우선한다.
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Rebuild rebuild = new Rebuild();
+            rebuilding = rebuild;
+
+            long cursor = 0L;
+            List<Article> articles;
+            do {
+                articles = blogRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.ofSize(properties.getRebuildBatchSize()));
+                for (Article article : articles) {
+                    rebuild.load(article);
+                    cursor = article.getId();
+                }
+            } while (articles.size() == properties.getRebuildBatchSize());
+
+            index = rebuild.index;
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    public void index(Article article) {
+        index(article.getId(), article.getTitle(), article.getContent());
+    }
+
+    private void index(long id, String title, String content) {
+        Rebuild rebuild = rebuilding;   // 교체 전에 rebuilding 을 먼저 읽어야 교체된 색인을 놓치지 않는다
+        if (rebuild != null) {
+            rebuild.change(id, target -> target.index(id, title, content));
+        }
+        index.index(id, title, content);
+    }
+
+    // 트랜잭션 안이라면 커밋 이후에 색인 (롤백되면 색인하지 않는다)
+    public void indexAfterCommit(Article article) {
+        indexAfterCommit(article.getId(), article.getTitle(), article.getContent());
+    }
+
+    public void indexAfterCommit(long id, String title, String content) {
+        runAfterCommit(() -> index(id, title, content));
+    }
+
+    public void remove(Long id) {
+        Rebuild rebuild = rebuilding;
+        if (rebuild != null) {
+            rebuild.change(id, target -> target.remove(id));
+        }
+        index.remove(id);
+    }
+
+    // 트랜잭션 안이라면 커밋 이후에 색인에서 제거 (롤백되면 제거하지 않는다)
+    public void removeAfterCommit(Long id) {
+        runAfterCommit(() -> remove(id));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+        else {
+            action.run();
+        }
+    }
+
+    public List<ArticleSearchIndex.Hit> search(String query, int size) {
+        long start = System.nanoTime();
+
+        String trimmed = query.length() > properties.getMaxQueryLength()
+                ? query.substring(0, properties.getMaxQueryLength())
+                : query;
+        int limit = Math.min(Math.max(size, 1), properties.getMaxResults());
+        List<ArticleSearchIndex.Hit> hits = index.search(trimmed, limit);
+
+        searchNanos.add(System.nanoTime() - start);
+        searchCount.increment();
+        return hits;
+    }
+
+    public int indexedCount() {
+        return index.size();
+    }
+
+    public long getSearchCount() {
+        return searchCount.sum();
+    }
+
+    public long getSearchNanos() {
+        return searchNanos.sum();
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        Path file = snapshotFile();
+        if (file == null) {
+            return;
+        }
+
+        try {
+            String revision = blogRepository.findAllRevision().getEtag();
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), SNAPSHOT_FILE_NAME, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeUTF(revision);
+                index.writeTo(out);
+            }
+            // 쓰는 도중 종료되어도 이전 파일이 깨지지 않도록 다 쓴 뒤 교체
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved article search index snapshot: {} articles", index.size());
+        } catch (IOException | DataAccessException e) {
+            log.warn("Failed to save article search index snapshot: {}", e.getMessage());
+        }
+    }
+
+    private boolean loadSnapshot() {
+        Path file = snapshotFile();
+        if (file == null || !Files.exists(file)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                return false;
+            }
+            String revision = in.readUTF();
+            if (!revision.equals(blogRepository.findAllRevision().getEtag())) {
+                log.info("Article search index snapshot is stale, rebuilding");
+                return false;
+            }
+            ArticleSearchIndex loaded = new ArticleSearchIndex();
+            loaded.readFrom(in);
+            index = loaded;
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load article search index snapshot: {}", e.getMessage());
+            return false;
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private Path snapshotFile() {
+        String indexDir = properties.getIndexDir();
+        if (indexDir == null || indexDir.isBlank()) {
+            return null;
+        }
+        return Path.of(indexDir).resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    // 다시 만드는 중인 새 색인
+    // DB 에서 읽은 글보다 그 사이의 변경이 최신이므로, 한 번이라도 변경된 id 는 DB 에서 읽은 값으로 덮어쓰지 않는다.
+    // 확인과 반영 사이에 다른 쪽이 끼어들지 않도록 같은 잠금 안에서 한다. (메모리 작업만 하므로 짧다)
+    private static final class Rebuild {
+        private final ArticleSearchIndex index = new ArticleSearchIndex();
+        private final Set<Long> changedIds = new HashSet<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        void load(Article article) {
+            lock.lock();
+            try {
+                if (!changedIds.contains(article.getId())) {
+                    index.index(article.getId(), article.getTitle(), article.getContent());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void change(long id, Consumer<ArticleSearchIndex> change) {
+            lock.lock();
+            try {
+                changedIds.add(id);
+                change.accept(index);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete article search index snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.spring.springbootdeveloper.service;
+
+import com.spring.springbootdeveloper.config.ArticleViewCountProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCounter {
+
+    // 글 조회수 집계
+    // 조회할 때마다 DB 를 갱신하면 읽기 요청이 행 잠금을 거는 쓰기가 되므로, 메모리에서 LongAdder 로 더해 두었다가
+    // flush-interval 마다 늘어난 만큼만 한 번의 배치 UPDATE 로 반영한다. (종료 시에도 반영)
+    // 여러 서버에서 동시에 반영해도 view_count = view_count + ? 로 더하므로 값이 유실되지 않는다.
+
+    private static final String FLUSH_SQL = "update article set view_count = view_count + ? where id = ?";
+    private static final String SEED_SQL = "select id, view_count from article where view_count > 0 order by view_count desc limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleViewCountProperties properties;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder flushedViews = new LongAdder();     // 지금까지 DB 에 반영한 조회수
+    private final LongAdder flushCount = new LongAdder();       // 지금까지 반영한 횟수
+
+    // 조회수 상위 글을 미리 읽어 둔다. (가장 많이 본 글 목록이 시작 직후에도 정확하도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        jdbcTemplate.query(SEED_SQL, (RowCallbackHandler) rs -> {
+            long id = rs.getLong(1);
+            long viewCount = rs.getLong(2);
+            counters.computeIfAbsent(id, key -> new Counter(viewCount));
+        }, properties.getSeedSize());
+    }
+
+    // 조회수를 1 올리고 현재 조회수를 반환
+    // persistedCount: 처음 집계하는 글일 때 사용할 DB 의 조회수
+    public long increment(Long id, long persistedCount) {
+        Counter counter = counters.computeIfAbsent(id, key -> new Counter(persistedCount));
+        counter.pending.increment();
+        return counter.total();
+    }
+
+    public long get(Long id, long persistedCount) {
+        Counter counter = counters.get(id);
+        return counter != null ? counter.total() : persistedCount;
+    }
+
+    // 삭제된 글은 더 이상 집계하지 않는다.
+    public void forget(Long id) {
+        counters.remove(id);
+    }
+
+    // 조회수 상위 limit 개 글의 (id, 조회수) 목록 (조회수 높은 순)
+    public List<Map.Entry<Long, Long>> findMostViewed(int limit) {
+        Comparator<Map.Entry<Long, Long>> order = Map.Entry.<Long, Long>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Long>> top = new PriorityQueue<>(limit + 1, order);
+        counters.forEach((id, counter) -> {
+            top.offer(Map.entry(id, counter.total()));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Map.Entry<Long, Long>> result = new ArrayList<>(top);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    // 늘어난 조회수를 DB 에 반영
+    @Scheduled(initialDelayString = "${article.view-count.flush-interval:PT10S}",
+            fixedDelayString = "${article.view-count.flush-interval:PT10S}")
+    public void flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+
+        counters.forEach((id, counter) -> {
+            long delta = counter.pending.sumThenReset();
+            if (delta > 0) {
+                counter.base.add(delta);
+                ids.add(id);
+                deltas.add(delta);
+                args.add(new Object[]{delta, id});
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            flushedViews.add(deltas.stream().mapToLong(Long::longValue).sum());
+            flushCount.increment();
+        } catch (DataAccessException e) {
+            // 반영하지 못한 조회수는 다음 반영 때 다시 시도
+            log.warn("Failed to flush article view counts: {}", e.getMessage());
+            for (int i = 0; i < ids.size(); i++) {
+                Counter counter = counters.get(ids.get(i));
+                if (counter != null) {
+                    counter.base.add(-deltas.get(i));
+                    counter.pending.add(deltas.get(i));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getFlushedViews() {
+        return flushedViews.sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public int getTrackedArticles() {
+        return counters.size();
+    }
+
+    private static final class Counter {
+        private final LongAdder base = new LongAdder();     // DB 에 반영된 조회수
+        private final LongAdder pending = new LongAdder();  // 아직 반영하지 않은 조회수
+
+        private Counter(long persistedCount) {
+            base.add(persistedCount);
+        }
+
+        private long total() {
+            return base.sum() + pending.sum();
+        }
+    }
+}
@@ -1,24 +1,43 @@
 package com.spring.springbootdeveloper.service;
 
+import com.spring.springbootdeveloper.config.cache.ArticleCache;
 import com.spring.springbootdeveloper.config.error.exception.ArticleNotFoundException;
+import com.spring.springbootdeveloper.config.error.exception.ArticleVersionMismatchException;
 import com.spring.springbootdeveloper.domain.Article;
 import com.spring.springbootdeveloper.dto.AddArticleRequest;
+import com.spring.springbootdeveloper.dto.ArticleListViewResponse;
+import com.spring.springbootdeveloper.dto.ArticlePageResponse;
+import com.spring.springbootdeveloper.dto.ArticleResponse;
+import com.spring.springbootdeveloper.dto.ArticleRevision;
+import com.spring.springbootdeveloper.dto.ArticleViewCountResponse;
+import com.spring.springbootdeveloper.dto.ArticleViewResponse;
+import com.spring.springbootdeveloper.dto.AuthorArticlePageResponse;
 import com.spring.springbootdeveloper.dto.UpdateArticleRequest;
 import com.spring.springbootdeveloper.repository.BlogRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import org.springframework.security.access.AccessDeniedException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor    // final이 붙거나 @NotNull이 붙은 필드의 생성자 추가, Bean을 생성자로 생성자로
 @Service
 public class BlogService {
 
+    public static final int DEFAULT_PAGE_SIZE = 10;   // 목록 한 페이지 기본 크기
+    public static final int MAX_PAGE_SIZE = 100;      // 한 번에 조회할 수 있는 최대 글 수
+
     private final BlogRepository blogRepository;
+    private final ArticleCache articleCache;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleViewCounter articleViewCounter;
 
 //    @RequiredArgsConstructor 사용
     // 또는 아래 처럼 생성자를 생성
@@ -29,7 +48,11 @@ public class BlogService {
 
     // 블로그 글 등록
     public Article save(AddArticleRequest request, String userName) {
-        return blogRepository.save(request.toEntity(userName));
+        Article article = blogRepository.save(request.toEntity(userName));
+        articleCache.put(article.getId(), new ArticleViewResponse(article));    // 새 글은 바로 캐시에 담아둔다
+        articleSearchService.index(article);
+
+        return article;
     }
 
     // 블로그 글 전체 조회
@@ -37,43 +60,113 @@ public class BlogService {
         return blogRepository.findAll();
     }
 
+    // 블로그 글 요약 커서 기반 조회 (after 이후의 글을 size 개 만큼)
+    public ArticlePageResponse<ArticleListViewResponse> findPage(Long after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long cursor = after != null ? after : 0L;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<ArticleListViewResponse> fetched = blogRepository.findSummariesAfter(cursor, PageRequest.ofSize(pageSize + 1));
+        return ArticlePageResponse.of(fetched, pageSize, ArticleListViewResponse::getId);
+    }
+
+    // 작성자의 블로그 글 요약 조회 (최신 글부터, before 커서 이전의 글을 size 개 만큼)
+    public AuthorArticlePageResponse findPageByAuthor(String author, String before, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.ofSize(pageSize + 1);    // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+
+        List<ArticleListViewResponse> fetched;
+        if (before == null || before.isBlank()) {
+            fetched = blogRepository.findSummariesByAuthor(author, pageRequest);
+        }
+        else {
+            AuthorArticlePageResponse.Cursor cursor = AuthorArticlePageResponse.Cursor.decode(before);
+            fetched = blogRepository.findSummariesByAuthorBefore(author, cursor.createdAt(), cursor.id(), pageRequest);
+        }
+        return AuthorArticlePageResponse.of(fetched, pageSize);
+    }
+
     // 블로그 글 한 개 조회
     public Article findById(Long id) {
         return blogRepository.findById(id)
                 .orElseThrow(ArticleNotFoundException::new);
     }
 
-    // 블로그 글 삭제
+    // 블로그 글 전체의 버전 정보 조회 (조건부 GET 용)
+    public ArticleRevision findAllRevision() {
+        return blogRepository.findAllRevision();
+    }
+
+    // 블로그 글 한 개 조회 (캐시 우선, 없으면 DB 조회 후 캐시에 담는다)
+    public ArticleViewResponse findViewById(Long id) {
+        return articleCache.get(id, key -> new ArticleViewResponse(findById(key)));
+    }
+
+    // 블로그 글 조회수 1 증가 후 현재 조회수 반환 (DB 에는 주기적으로 모아서 반영)
+    public long increaseViewCount(ArticleViewResponse article) {
+        return articleViewCounter.increment(article.getId(), article.getViewCount());
+    }
+
+    // 조회수가 가장 많은 글 목록 (메모리에 집계된 조회수 기준)
+    public List<ArticleViewCountResponse> findMostViewed(int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<ArticleViewCountResponse> mostViewed = new ArrayList<>(limit);
+        for (Map.Entry<Long, Long> entry : articleViewCounter.findMostViewed(limit)) {
+            try {
+                mostViewed.add(new ArticleViewCountResponse(findViewById(entry.getKey()), entry.getValue()));
+            } catch (ArticleNotFoundException e) {
+                articleViewCounter.forget(entry.getKey());  // 다른 경로로 삭제된 글
+            }
+        }
+        return mostViewed;
+    }
+
+    // 블로그 글 삭제 (작성자 본인의 글만 DELETE 한 번으로 삭제)
+    @Transactional
     public void delete(Long id) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found:"+ id));
+        String userName = currentUserName();
+        if (blogRepository.deleteByIdAndAuthor(id, userName) == 0) {
+            throw resolveWriteFailure(id, userName);
+        }
 
-        authorizeArticleAuthor(article); // 작성자인지 확인
-        blogRepository.delete(article); // 삭제 진행
+        articleCache.evictAfterCommit(id);
+        articleSearchService.removeAfterCommit(id);
+        articleViewCounter.forget(id);
     }
 
-    // 블로그 글 수정
+    // 블로그 글 수정 (작성자 본인의 글만 UPDATE 한 번으로 수정, expectedVersion 이 있으면 현재 버전과 같을 때만)
+    // 본문을 미리 읽지 않으므로 수정한 내용으로 응답을 만든다.
     @Transactional  // 트랜잭션 메소드 ->  처리 중간에 에러가 나더라도 데이터 보존
-    public Article update(long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found:"+ id));
+    public ArticleResponse update(long id, UpdateArticleRequest request, Long expectedVersion) {
+        String userName = currentUserName();
+        int updated = blogRepository.updateByIdAndAuthor(id, userName, expectedVersion,
+                request.getTitle(), request.getContent(), LocalDateTime.now());
+        if (updated == 0) {
+            throw resolveWriteFailure(id, userName);
+        }
 
-        authorizeArticleAuthor(article);
-        article.update(request.getTitle(), request.getContent());
+        articleCache.evictAfterCommit(id);   // 수정 전 내용이 캐시에 남지 않도록 제거
+        articleSearchService.indexAfterCommit(id, request.getTitle(), request.getContent());
 
-        return article;
+        return new ArticleResponse(id, request.getTitle(), request.getContent());
     }
 
 
-    // 게시글을 작성한 유저인지 확인
-    private static void authorizeArticleAuthor(Article article) {
-        String userName = SecurityContextHolder.getContext().getAuthentication().getName();
-        // SecurityContextHolder 에 저장된 (로그인 된) 사람과 일치하는지 확인
-        // getName() 은 로그인 id 이다.
+    // 로그인한 유저의 id (SecurityContextHolder 에 저장된 인증 정보의 getName())
+    private static String currentUserName() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    // 수정, 삭제된 행이 없을 때만 원인을 조회해 구분한다.
+    // 글이 없으면 404, 작성자가 아니면 403, 둘 다 아니면 If-Match 의 버전이 맞지 않은 것이므로 412
+    private RuntimeException resolveWriteFailure(Long id, String userName) {
+        String author = blogRepository.findAuthorById(id)
+                .orElseThrow(ArticleNotFoundException::new);
 
-        if (!article.getAuthor().equals(userName)) {
-//            throw new IllegalArgumentException("not authorized");
-            throw new AccessDeniedException("not authorized");
+        if (!author.equals(userName)) {
+            return new AccessDeniedException("not authorized");
         }
+        return new ArticleVersionMismatchException();
     }
 }
@@ -0,0 +1,60 @@
+package com.spring.springbootdeveloper.service;
+
+import com.spring.springbootdeveloper.config.RefreshTokenPurgeProperties;
+import com.spring.springbootdeveloper.repository.RefreshTokenRepositoty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    // 만료된 리프레시 토큰을 주기적으로 삭제하는 작업
+    // 한 번에 batchSize 개씩 나누어 삭제해 긴 트랜잭션과 테이블 잠금을 피한다.
+
+    private final RefreshTokenRepositoty refreshTokenRepositoty;
+    private final RefreshTokenPurgeProperties properties;
+
+    private final LongAdder purgedCount = new LongAdder();  // 지금까지 삭제한 토큰 수
+    private final LongAdder runCount = new LongAdder();     // 지금까지 실행한 횟수
+
+    @Scheduled(initialDelayString = "${refresh-token.purge.interval:PT1H}",
+            fixedDelayString = "${refresh-token.purge.interval:PT1H}")
+    public void purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest batch = PageRequest.ofSize(properties.getBatchSize());
+        long purged = 0;
+
+        List<Long> expiredIds;
+        do {
+            expiredIds = refreshTokenRepositoty.findExpiredIds(now, batch);
+            if (!expiredIds.isEmpty()) {
+                purged += refreshTokenRepositoty.deleteExpiredByIdIn(expiredIds, now);  // 배치마다 별도 트랜잭션
+            }
+        } while (expiredIds.size() == properties.getBatchSize());
+
+        purgedCount.add(purged);
+        runCount.increment();
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    public long getPurgedCount() {
+        return purgedCount.sum();
+    }
+
+    public long getRunCount() {
+        return runCount.sum();
+    }
+}
@@ -1,20 +1,53 @@
 package com.spring.springbootdeveloper.service;
 
-import com.spring.springbootdeveloper.domain.RefreshToken;
-import com.spring.springbootdeveloper.repository.RefreshTokenRepositoty;
+import com.spring.springbootdeveloper.repository.RefreshTokenStore;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
 @Service
 public class RefreshTokenService {
 
-    private final RefreshTokenRepositoty refreshTokenRepositoty;
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final LongAdder lookupHitCount = new LongAdder();   // 저장된 토큰을 찾은 조회
+    private final LongAdder lookupMissCount = new LongAdder();  // 저장되지 않은(폐기, 교체된) 토큰 조회
+
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore) {
+        this.refreshTokenStore = refreshTokenStore;
+    }
+
+    // 리프레시 토큰으로 유저 ID 조회
+    public Long findUserIdByRefreshToken(String refreshToken) {
+        Optional<Long> userId = refreshTokenStore.findUserIdByRefreshToken(refreshToken);
+        if (userId.isPresent()) {
+            lookupHitCount.increment();
+        }
+        else {
+            lookupMissCount.increment();
+        }
+        return userId.orElseThrow(() -> new IllegalArgumentException("Unexpected token: " + refreshToken));
+    }
+
+    // 유저의 리프레시 토큰 저장 (이미 있으면 교체)
+    public void save(Long userId, String refreshToken) {
+        refreshTokenStore.save(userId, refreshToken);
+    }
+
+    public void deleteByUserId(Long userId) {
+        refreshTokenStore.deleteByUserId(userId);
+    }
+
+    public void deleteByRefreshToken(String refreshToken) {
+        refreshTokenStore.deleteByRefreshToken(refreshToken);
+    }
 
-    public RefreshTokenService(RefreshTokenRepositoty refreshTokenRepositoty) {
-        this.refreshTokenRepositoty = refreshTokenRepositoty;
+    public long getLookupHitCount() {
+        return lookupHitCount.sum();
     }
 
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepositoty.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token: " + refreshToken));
+    public long getLookupMissCount() {
+        return lookupMissCount.sum();
     }
 }
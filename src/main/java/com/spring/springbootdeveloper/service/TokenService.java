@@ -25,7 +25,7 @@ public class TokenService {
             throw new IllegalArgumentException("Unexpected token: " + refreshToken);
         }
 
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
+        Long userId = refreshTokenService.findUserIdByRefreshToken(refreshToken);
         User user = userService.findById(userId);
 
         return tokenProvider.generateToken(user, Duration.ofHours(2));  // 2시간 유효한 토큰 반환
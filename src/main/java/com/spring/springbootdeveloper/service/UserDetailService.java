@@ -17,7 +17,7 @@ public class UserDetailService implements UserDetailsService {
     // 사용자 이름(email)으로 사용자의 정보를 가져오는 메소드
     @Override
     public User loadUserByUsername (String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalId(email)
                 .orElseThrow(() -> new IllegalArgumentException(email + " not found"));
     }// end of public User loadUserByUsername (String email) --------
 
@@ -1,38 +1,49 @@
 package com.spring.springbootdeveloper.service;
 
+import com.spring.springbootdeveloper.config.password.PasswordHasher;
 import com.spring.springbootdeveloper.domain.User;
 import com.spring.springbootdeveloper.dto.AddUserRequest;
 import com.spring.springbootdeveloper.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
 
 
     public Long save(AddUserRequest dto) {
-        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
-
         return userRepository.save(User.builder()
                 .email(dto.getEmail())
                 // 패스워드 암호화
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+                .password(passwordHasher.encode(dto.getPassword()))
                 .build()).getId();
     }
 
+    // 패스워드 암호화를 해시 전용 스레드 풀에서 처리한 뒤 저장한다. 요청 스레드는 해시 계산을 기다리지 않는다.
+    public CompletableFuture<Long> saveAsync(AddUserRequest dto) {
+        return passwordHasher.encodeAsync(dto.getPassword())
+                .thenApply(encodedPassword -> userRepository.save(User.builder()
+                        .email(dto.getEmail())
+                        .password(encodedPassword)
+                        .build()).getId());
+    }
+
     public User findById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 
 
+    // 로그인 성공 처리, 로그아웃에서 호출 (2차 캐시 사용)
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalId(email)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 }
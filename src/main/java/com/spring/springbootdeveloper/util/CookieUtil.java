@@ -3,9 +3,7 @@ package com.spring.springbootdeveloper.util;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.SerializationUtils;
-
-import java.util.Base64;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 
 public class CookieUtil {
     // 쿠키 생성 클래스
@@ -36,17 +34,18 @@ public class CookieUtil {
     }// end of public static void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name)
 
 
-    // 객체를 직렬화 해 쿠키의 값으로 변환 객체값 -> 쿠키
-    public static String serialize(Object obj) {
-        return Base64.getUrlEncoder()
-                .encodeToString(SerializationUtils.serialize(obj));
+    // OAuth2 인증 요청을 쿠키의 값으로 변환 객체값 -> 쿠키
+    // 자바 직렬화 대신 필요한 필드만 담은 JSON (+ deflate) 을 사용해 쿠키 크기를 줄인다.
+    public static String serialize(OAuth2AuthorizationRequest authorizationRequest) {
+        return OAuth2AuthorizationRequestCodec.encode(authorizationRequest);
     }
 
-    // 쿠키를 역질렬화 해 객체로 변환 쿠키값 -> 객체
-    public static <T> T deserialize(Cookie cookie, Class<T> cls) {
-        return cls.cast(
-                SerializationUtils.deserialize(Base64.getUrlDecoder().decode(cookie.getValue()))
-        );
+    // 쿠키를 OAuth2 인증 요청으로 변환 쿠키값 -> 객체, 쿠키가 없거나 올바르지 않으면 null
+    public static OAuth2AuthorizationRequest deserialize(Cookie cookie) {
+        if (cookie == null) {
+            return null;
+        }
+        return OAuth2AuthorizationRequestCodec.decode(cookie.getValue());
     }
 
 }
@@ -0,0 +1,149 @@
+package com.spring.springbootdeveloper.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class OAuth2AuthorizationRequestCodec {
+    // OAuth2AuthorizationRequest 를 쿠키 값으로 변환하는 클래스
+    // 자바 직렬화 대신 필요한 필드만 JSON 으로 만들고, 더 작아지는 경우에만 deflate 로 압축한다.
+    // authorizationRequestUri 는 나머지 필드로 다시 만들 수 있으므로 저장하지 않는다.
+
+    private static final char PLAIN = 'j';      // 압축하지 않은 JSON
+    private static final char DEFLATED = 'z';   // deflate 로 압축한 JSON
+    private static final int MAX_INFLATED_SIZE = 16 * 1024;    // 압축 해제 크기 제한 (비정상 쿠키 방지)
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    private OAuth2AuthorizationRequestCodec() {
+    }
+
+    public static String encode(OAuth2AuthorizationRequest request) {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(CompactRequest.from(request));
+            byte[] deflated = deflate(json);
+
+            if (deflated.length < json.length) {
+                return DEFLATED + Base64.getUrlEncoder().withoutPadding().encodeToString(deflated);
+            }
+            return PLAIN + Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode authorization request", e);
+        }
+    }
+
+    // 쿠키 값이 올바르지 않으면 null 반환 (변조되었거나 이전 형식의 쿠키)
+    public static OAuth2AuthorizationRequest decode(String value) {
+        if (value == null || value.length() < 2) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(value.substring(1));
+            byte[] json = switch (value.charAt(0)) {
+                case PLAIN -> bytes;
+                case DEFLATED -> inflate(bytes);
+                default -> null;
+            };
+            if (json == null) {
+                return null;
+            }
+            return OBJECT_MAPPER.readValue(json, CompactRequest.class).toRequest();
+        } catch (IOException | DataFormatException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated authorization request");
+                }
+                out.write(buffer, 0, length);
+                if (out.size() > MAX_INFLATED_SIZE) {
+                    throw new DataFormatException("Authorization request is too large");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // 쿠키에 담을 필드만 모은 객체 (키 이름을 짧게 해 크기를 줄인다)
+    @Getter
+    @Setter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class CompactRequest {
+        private String u;                   // authorizationUri
+        private String c;                   // clientId
+        private String r;                   // redirectUri
+        private Set<String> s;              // scopes
+        private String st;                  // state
+        private Map<String, Object> p;      // additionalParameters
+        private Map<String, Object> a;      // attributes (registration_id, PKCE code_verifier 등)
+
+        static CompactRequest from(OAuth2AuthorizationRequest request) {
+            CompactRequest compact = new CompactRequest();
+            compact.u = request.getAuthorizationUri();
+            compact.c = request.getClientId();
+            compact.r = request.getRedirectUri();
+            compact.s = request.getScopes();
+            compact.st = request.getState();
+            compact.p = request.getAdditionalParameters();
+            compact.a = request.getAttributes();
+            return compact;
+        }
+
+        OAuth2AuthorizationRequest toRequest() {
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(u)
+                    .clientId(c)
+                    .redirectUri(r)
+                    .scopes(s != null ? new LinkedHashSet<>(s) : null)
+                    .state(st)
+                    .additionalParameters(p != null ? p : Map.of())
+                    .attributes(a != null ? a : Map.of())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.spring.springbootdeveloper.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class TokenDigestUtil {
+    // 토큰을 고정 길이 해시로 변환하는 클래스
+    // 원본 토큰 대신 해시를 키로 사용해 캐시나 DB 에 원문을 들고 있지 않도록 한다.
+
+    private TokenDigestUtil() {
+    }
+
+    // SHA-256 해시를 URL-safe Base64(패딩 없음, 43자)로 반환
+    // JWT 는 ASCII 라 어떤 인코딩이든 같은 바이트지만, 헤더, 쿠키 값에는 아무 문자나 올 수 있으므로
+    // 문자를 ? 로 바꿔 서로 다른 값이 같은 해시가 되는 US_ASCII 대신 UTF-8 로 변환한다.
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {   // 모든 JVM 은 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
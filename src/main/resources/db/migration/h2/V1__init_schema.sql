@@ -0,0 +1,33 @@
+-- Flyway 도입 전 스키마 (V2 부터의 마이그레이션을 모두 적용하면 엔티티 매핑과 같아진다, spring.jpa.hibernate.ddl-auto: validate 로 확인)
+
+create table users
+(
+    id       bigint generated by default as identity,
+    email    varchar(255) not null,
+    password varchar(255),
+    nickname varchar(255),
+    provider varchar(255),
+    primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_nickname unique (nickname)
+);
+
+create table refresh_token
+(
+    id            bigint generated by default as identity,
+    user_id       bigint       not null,
+    refresh_token varchar(255) not null,
+    primary key (id),
+    constraint uk_refresh_token_user_id unique (user_id)
+);
+
+create table article
+(
+    id         bigint generated by default as identity,
+    title      varchar(255) not null,
+    content    varchar(255) not null,
+    author     varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    primary key (id)
+);
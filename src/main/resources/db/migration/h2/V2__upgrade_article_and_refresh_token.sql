@@ -0,0 +1,16 @@
+-- 리프레시 토큰은 원문 대신 SHA-256 해시(TokenDigestUtil)로 조회하고 만료 시간을 함께 저장한다.
+-- 해시는 SQL 로 만들 수 없으므로 기존 토큰은 지운다. (해당 사용자는 다시 로그인하면 새 토큰을 받는다)
+delete from refresh_token;
+
+alter table refresh_token add column token_hash varchar(43) not null;
+alter table refresh_token add column expires_at timestamp(6) not null;
+alter table refresh_token add constraint uk_refresh_token_token_hash unique (token_hash);
+
+-- 조회수, 낙관적 락 버전 (기존 글은 0 부터)
+alter table article add column view_count bigint default 0 not null;
+alter table article add column version bigint default 0 not null;
+
+-- id 생성을 IDENTITY 에서 시퀀스(pooled, Article.ID_ALLOCATION_SIZE 간격)로 바꾼다.
+-- pooled 는 시퀀스 값 n 을 받으면 n - 49 ~ n 을 쓰므로 기존 최대 id + 50 부터 시작해야 겹치지 않는다.
+alter table article alter column id drop identity;
+create sequence article_seq start with (select coalesce(max(id), 0) + 50 from article) increment by 50;
@@ -0,0 +1,5 @@
+-- 작성자별 글 목록 (where author = ? order by created_at desc, id desc)
+create index idx_article_author_created_at on article (author, created_at);
+
+-- 만료된 리프레시 토큰 정리 (where expires_at <= ?)
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
@@ -0,0 +1,34 @@
+-- Flyway 도입 전 스키마 (V2 부터의 마이그레이션을 모두 적용하면 엔티티 매핑과 같아진다, spring.jpa.hibernate.ddl-auto: validate 로 확인)
+-- Flyway 도입 전에 만들어진 DB 는 baseline-on-migrate 로 이 버전을 건너뛰므로 그때의 스키마에서 바꾸지 않는다.
+
+create table users
+(
+    id       bigint       not null auto_increment,
+    email    varchar(255) not null,
+    password varchar(255),
+    nickname varchar(255),
+    provider varchar(255),
+    primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_nickname unique (nickname)
+) engine = InnoDB;
+
+create table refresh_token
+(
+    id            bigint       not null auto_increment,
+    user_id       bigint       not null,
+    refresh_token varchar(255) not null,
+    primary key (id),
+    constraint uk_refresh_token_user_id unique (user_id)
+) engine = InnoDB;
+
+create table article
+(
+    id         bigint       not null auto_increment,
+    title      varchar(255) not null,
+    content    varchar(255) not null,
+    author     varchar(255) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
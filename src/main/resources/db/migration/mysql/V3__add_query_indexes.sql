@@ -0,0 +1,6 @@
+-- 작성자별 글 목록 (where author = ? order by created_at desc, id desc)
+-- InnoDB 보조 인덱스에는 PK(id) 가 붙어 있으므로 (author, created_at, id) 순서로 정렬되어 있다.
+create index idx_article_author_created_at on article (author, created_at);
+
+-- 만료된 리프레시 토큰 정리 (where expires_at <= ?)
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
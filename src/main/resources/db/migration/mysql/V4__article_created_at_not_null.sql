@@ -0,0 +1,5 @@
+-- 작성자별 글 목록의 keyset 커서 (created_at, id) 에 쓰므로 created_at 을 필수로 한다.
+-- 감사(auditing)가 동작하기 전에 저장된 글은 수정 시간, 없으면 현재 시간으로 채운다.
+update article set created_at = coalesce(updated_at, current_timestamp(6)) where created_at is null;
+
+alter table article modify created_at datetime(6) not null;
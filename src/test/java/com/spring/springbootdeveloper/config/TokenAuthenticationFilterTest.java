@@ -0,0 +1,70 @@
+package com.spring.springbootdeveloper.config;
+
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenAuthenticationFilterTest {
+
+    private final TokenProvider tokenProvider = Mockito.mock(TokenProvider.class);
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenProvider);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("doFilter(): Cookie 헤더의 access_token 으로 인증 정보를 설정한다.")
+    @Test
+    void authenticateWithCookieHeader() throws Exception {
+        // given: 여러 쿠키 중 access_token 이 들어있는 요청
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@gmail.com", "token");
+        Mockito.when(tokenProvider.authenticate("token")).thenReturn(authentication);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+        request.setServletPath("/articles");
+        request.addHeader("Cookie", "JSESSIONID=abc; access_token=token; refresh_token=refresh");
+
+        // when: 필터를 통과시킨다.
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then: 인증 정보가 설정되고 인증 카운터가 올라간다.
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isEqualTo(authentication);
+        assertThat(filter.getAuthenticatedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("doFilter(): 제외 경로는 토큰을 확인하지 않는다.")
+    @Test
+    void skipExcludedPath() throws Exception {
+        // given: 정적 리소스 요청
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/js/article.js");
+        request.setServletPath("/js/article.js");
+        request.addHeader("Authorization", "Bearer token");
+
+        // when: 필터를 통과시킨다.
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then: 토큰 검증을 하지 않는다.
+        Mockito.verifyNoInteractions(tokenProvider);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @DisplayName("findCookieValue(): 이름이 정확히 일치하는 쿠키의 값만 찾는다.")
+    @Test
+    void findCookieValue() {
+        assertThat(TokenAuthenticationFilter.findCookieValue("x_access_token=no; access_token=yes", "access_token"))
+                .isEqualTo("yes");
+        assertThat(TokenAuthenticationFilter.findCookieValue("access_tokenx=no", "access_token")).isNull();
+        assertThat(TokenAuthenticationFilter.findCookieValue("access_token=", "access_token")).isNull();
+    }
+}
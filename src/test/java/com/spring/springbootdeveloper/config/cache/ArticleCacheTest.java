@@ -0,0 +1,77 @@
+package com.spring.springbootdeveloper.config.cache;
+
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.dto.ArticleViewResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleCacheTest {
+
+    private final ArticleCache articleCache = new ArticleCache(new ArticleCacheProperties());
+
+    @DisplayName("get(): 조회한 값을 캐시에 담아 다음 조회에서는 loader 를 부르지 않는다.")
+    @Test
+    void cacheLoadedValue() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            articleCache.get(1L, id -> {
+                loads.incrementAndGet();
+                return view("title");
+            });
+        }
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(articleCache.size()).isEqualTo(1);
+    }
+
+    @DisplayName("get(): 느린 조회가 이전 내용을 읽은 사이에 글이 수정되어 제거되면, 조회한 이전 내용은 캐시에 담지 않는다.")
+    @Test
+    void skipStaleLoadEvictedDuringLoad() throws Exception {
+        // given: 이전 내용을 읽은 뒤 수정이 끝날 때까지 멈추는 조회
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        CompletableFuture<ArticleViewResponse> slowLoad = CompletableFuture.supplyAsync(() -> articleCache.get(1L, id -> {
+            ArticleViewResponse before = view("before");
+            loaded.countDown();
+            await(updated);
+            return before;
+        }));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 조회가 멈춘 사이에 수정 (BlogService.update 와 같이 제거)
+        articleCache.evictAfterCommit(1L);
+        updated.countDown();
+
+        // then: 조회한 요청은 이전 내용을 받지만 캐시에는 남지 않아 다음 조회는 수정된 내용을 읽는다.
+        assertThat(slowLoad.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("before");
+        assertThat(articleCache.get(1L, id -> view("after")).getTitle()).isEqualTo("after");
+        assertThat(articleCache.get(1L, id -> view("unused")).getTitle()).isEqualTo("after");
+    }
+
+    private static ArticleViewResponse view(String title) {
+        return new ArticleViewResponse(Article.builder()
+                .author("user@gmail.com")
+                .title(title)
+                .content("content")
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
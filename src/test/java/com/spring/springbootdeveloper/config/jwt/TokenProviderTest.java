@@ -108,6 +108,53 @@ public class TokenProviderTest {
     }
 
 
+    // authenticate() 검증 테스트
+    @DisplayName("authenticate(): 토큰을 한 번 검증해 유효하면 인증 정보를, 만료된 토큰이면 null 을 반환한다.")
+    @Test
+    void authenticate() {
+        // given: 유효한 토큰과 만료된 토큰을 생성
+        String userEmail = "user@gmail.com";
+        String validToken = JwtFactory.builder()
+                .subject(userEmail)
+                .build()
+                .createToken(jwtProperties);
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        // when: 같은 토큰으로 두 번 인증한다. (두 번째는 검증된 토큰 캐시에서 조회)
+        Authentication first = tokenProvider.authenticate(validToken);
+        Authentication second = tokenProvider.authenticate(validToken);
+
+        // then: 유효한 토큰은 두 번 모두 같은 유저로 인증되고, 만료된 토큰은 인증되지 않는다.
+        assertThat(((UserDetails) first.getPrincipal()).getUsername()).isEqualTo(userEmail);
+        assertThat(((UserDetails) second.getPrincipal()).getUsername()).isEqualTo(userEmail);
+        assertThat(tokenProvider.authenticate(expiredToken)).isNull();
+    }
+
+
+    // 비밀값 교체 검증 테스트
+    @DisplayName("validToken(): 비밀값이 바뀌면 이전 비밀값으로 검증해 캐시에 담긴 토큰도 유효하지 않다.")
+    @Test
+    void validToken_afterSecretRotation() {
+        // given: 이전 비밀값으로 만든 토큰을 한 번 검증해 캐시에 담는다. (공유 설정을 바꾸지 않도록 별도 인스턴스 사용)
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer(jwtProperties.getIssuer());
+        properties.setSecretKey(jwtProperties.getSecretKey());
+        TokenProvider rotatingTokenProvider = new TokenProvider(properties);
+        String token = JwtFactory.withDefaultValues().createToken(properties);
+        assertThat(rotatingTokenProvider.validateToken(token)).isTrue();
+
+        // when: 비밀값을 바꾼다.
+        properties.setSecretKey("cm90YXRlZC1zZWNyZXQta2V5LWZvci1zcHJpbmdib290LWRldmVsb3Blcg==");
+
+        // then: 캐시에 있던 토큰도 새 비밀값으로는 유효하지 않다.
+        assertThat(rotatingTokenProvider.validateToken(token)).isFalse();
+        assertThat(rotatingTokenProvider.getInvalidCount(TokenProvider.InvalidReason.SIGNATURE)).isEqualTo(1);
+    }
+
+
     // getUserId() 검증 테스트
     @DisplayName("getUserId(): 토큰으로 유저 ID를 가져올 수 있다.")
     @Test
@@ -0,0 +1,117 @@
+package com.spring.springbootdeveloper.config.metrics;
+
+import com.spring.springbootdeveloper.config.jwt.JwtFactory;
+import com.spring.springbootdeveloper.config.jwt.JwtProperties;
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureObservability     // 테스트에서도 Prometheus 레지스트리를 만든다
+@ActiveProfiles("test")
+class ApplicationMetricsTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void mockMvcSetup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+    }
+
+    @DisplayName("token.validations: 토큰 검증 실패를 이유별로 센다.")
+    @Test
+    void tokenValidationsByReason() {
+        // given: 만료된 토큰, JWT 형식이 아닌 토큰
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+        double expiredBefore = validations("expired");
+        double malformedBefore = validations("malformed");
+
+        // when
+        tokenProvider.validateToken(expiredToken);
+        tokenProvider.validateToken("not-a-jwt");
+
+        // then
+        assertThat(validations("expired")).isEqualTo(expiredBefore + 1);
+        assertThat(validations("malformed")).isEqualTo(malformedBefore + 1);
+    }
+
+    @DisplayName("/actuator/prometheus: 리포지토리 호출 시간을 히스토그램으로 노출한다.")
+    @Test
+    void prometheusExposesRepositoryHistogram() throws Exception {
+        // given
+        blogRepository.findAll();
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("repository=\"BlogRepository\"")))
+                .andExpect(content().string(containsString("token_validations_total")));
+    }
+
+    @DisplayName("/actuator: 헬스 체크는 인증 없이 열려 있고, 메트릭은 토큰으로 인증해야 한다.")
+    @Test
+    void prometheusRequiresAuthentication() throws Exception {
+        // given
+        MockMvc securedMockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        String accessToken = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        // when & then
+        securedMockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        securedMockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        securedMockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    private double validations(String result) {
+        return meterRegistry.get("token.validations")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
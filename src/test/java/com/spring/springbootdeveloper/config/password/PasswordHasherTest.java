@@ -0,0 +1,100 @@
+package com.spring.springbootdeveloper.config.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private static PasswordEncoder createPasswordEncoder(PasswordEncoderProperties.Algorithm algorithm) {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setBcryptStrength(4);
+        return new PasswordEncoderConfig(properties).passwordEncoder();
+    }
+
+    @DisplayName("passwordEncoder(): 접두사 없이 저장된 이전 BCrypt 해시도 검증한다.")
+    @Test
+    void matchesLegacyBcryptHash() {
+        // given
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+
+        // when
+        PasswordEncoder passwordEncoder = createPasswordEncoder(PasswordEncoderProperties.Algorithm.BCRYPT);
+
+        // then
+        assertThat(passwordEncoder.matches("password", legacyHash)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", legacyHash)).isFalse();
+    }
+
+    @DisplayName("passwordEncoder(): 알고리즘을 바꿔도 기존 해시를 검증하고, 새 해시는 바뀐 알고리즘으로 만든다.")
+    @Test
+    void switchAlgorithm() {
+        // given
+        String bcryptHash = createPasswordEncoder(PasswordEncoderProperties.Algorithm.BCRYPT).encode("password");
+
+        // when
+        PasswordEncoder passwordEncoder = createPasswordEncoder(PasswordEncoderProperties.Algorithm.PBKDF2);
+        String pbkdf2Hash = passwordEncoder.encode("password");
+
+        // then
+        assertThat(bcryptHash).startsWith("{bcrypt}");
+        assertThat(pbkdf2Hash).startsWith("{pbkdf2}");
+        assertThat(passwordEncoder.matches("password", bcryptHash)).isTrue();
+        assertThat(passwordEncoder.matches("password", pbkdf2Hash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(bcryptHash)).isTrue();
+    }
+
+    @DisplayName("encodeAsync(): 스레드와 대기열이 모두 차면 요청을 바로 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("encoded-" + rawPassword);
+            }
+        };
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder, properties);
+
+        try {
+            CompletableFuture<String> running = passwordHasher.encodeAsync("first");
+            CompletableFuture<String> queued = passwordHasher.encodeAsync("second");
+
+            // when, then
+            assertThatThrownBy(() -> passwordHasher.encodeAsync("third"))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(passwordHasher.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-first");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-second");
+        } finally {
+            release.countDown();
+            passwordHasher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.spring.springbootdeveloper.config.tracing;
+
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.domain.User;
+import com.spring.springbootdeveloper.repository.UserRepository;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 서버로 요청을 보내 (필터 체인 포함) 메모리 내보내기에 남은 span 을 확인한다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.tracing.sampling.probability=1.0")    // 테스트에서는 모든 요청을 추적
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Import(TracingTest.InMemoryExporterConfig.class)
+class TracingTest {
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(User.builder()
+                .email("tracing@gmail.com")
+                .password("test")
+                .build());
+        accessToken = tokenProvider.generateToken(user, Duration.ofHours(1));
+        flush();
+        spanExporter.reset();
+    }
+
+    @DisplayName("API 요청: 요청 span 과 같은 trace 에 토큰 검증, 리포지토리 호출 span 이 남는다.")
+    @Test
+    void apiRequestSpans() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+
+        // when
+        ResponseEntity<String> response = restTemplate.exchange("/api/articles?size=5", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        SpanData request = awaitSpan(span -> span.getKind() == SpanKind.SERVER);
+        SpanData tokenVerify = awaitSpan(span -> span.getName().equals("token verify"));
+        SpanData repository = awaitSpan(span -> span.getName().startsWith("BlogRepository."));
+
+        assertThat(tokenVerify.getTraceId()).isEqualTo(request.getTraceId());
+        assertThat(tokenVerify.getParentSpanContext().isValid()).isTrue();
+        assertThat(repository.getTraceId()).isEqualTo(request.getTraceId());
+    }
+
+    @DisplayName("뷰 요청: 뷰 렌더링 span 이 뷰 이름과 함께 남는다.")
+    @Test
+    void viewRenderingSpan() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, "access_token=" + accessToken);
+
+        // when
+        ResponseEntity<String> response = restTemplate.exchange("/articles", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        SpanData request = awaitSpan(span -> span.getKind() == SpanKind.SERVER);
+        SpanData render = awaitSpan(span -> span.getName().equals("view render"));
+
+        assertThat(render.getTraceId()).isEqualTo(request.getTraceId());
+        assertThat(render.getAttributes().asMap().toString()).contains("articleList");
+    }
+
+    // BatchSpanProcessor 에 남은 span 을 내보낸 뒤 지금까지 기록된 span 반환
+    private List<SpanData> flush() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    // 요청 span 은 응답을 보낸 뒤에 끝나므로 클라이언트가 응답을 받은 직후에는 아직 없을 수 있다.
+    private SpanData awaitSpan(Predicate<SpanData> condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<SpanData> spans = flush();
+        while (spans.stream().noneMatch(condition) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            spans = flush();
+        }
+        List<SpanData> finished = spans;
+        return finished.stream()
+                .filter(condition)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("span not found in " + finished.stream().map(SpanData::getName).toList()));
+    }
+}
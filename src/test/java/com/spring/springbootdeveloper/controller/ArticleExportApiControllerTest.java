@@ -0,0 +1,157 @@
+package com.spring.springbootdeveloper.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.domain.User;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import com.spring.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleExportApiControllerTest {
+
+    @Autowired
+    protected WebApplicationContext context;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .build();
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("exportArticles: 모든 글을 id 순으로 한 줄에 하나씩 내보낸다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        List<Article> articles = saveArticles(3);
+
+        // when
+        MvcResult started = mvc.perform(get("/api/articles/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(content).endsWith("\n");
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith("{").endsWith("}");   // 앞뒤에 공백 없이 JSON 객체 하나
+            JsonNode line = objectMapper.readTree(lines[i]);
+            assertThat(line.get("id").asLong()).isEqualTo(articles.get(i).getId());
+            assertThat(line.get("title").asText()).isEqualTo("title" + (i + 1));
+            assertThat(line.get("author").asText()).isEqualTo("user");
+        }
+    }
+
+    @DisplayName("exportArticles: Accept-Encoding 에 gzip 이 있으면 압축해서 내보낸다.")
+    @Test
+    public void exportArticlesGzip() throws Exception {
+        // given
+        saveArticles(2);
+
+        // when
+        MvcResult started = mvc.perform(get("/api/articles/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(content.split("\n")).hasSize(2);
+        }
+    }
+
+    @DisplayName("exportArticles: 시큐리티 필터를 거쳐도 토큰으로 인증된 요청은 비동기 디스패치까지 내보내고, 토큰이 없으면 401 로 거절한다.")
+    @Test
+    public void exportArticlesWithSecurity() throws Exception {
+        // given
+        saveArticles(2);
+        userRepository.deleteAll();
+        User user = userRepository.save(User.builder()
+                .email("export@gmail.com")
+                .password("test")
+                .build());
+        String accessToken = tokenProvider.generateToken(user, Duration.ofHours(1));
+        MockMvc securedMvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .apply(springSecurity())
+                .build();
+
+        // when
+        MvcResult started = securedMvc.perform(get("/api/articles/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = securedMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")).hasSize(2);
+        securedMvc.perform(get("/api/articles/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private List<Article> saveArticles(int count) {
+        for (int i = 1; i <= count; i++) {
+            blogRepository.save(Article.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .author("user")
+                    .build());
+        }
+        return blogRepository.findAll().stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.spring.springbootdeveloper.controller;
+
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "article.import.batch-size=2")    // 여러 배치로 나뉘는지 확인하기 위해 작게
+class ArticleImportApiControllerTest {
+
+    @Autowired
+    protected WebApplicationContext context;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    private MockMvc mvc;
+    private Principal principal;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mvc = MockMvcBuilders.webAppContextSetup(this.context)
+                .build();
+        blogRepository.deleteAll();
+
+        principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+    }
+
+    @DisplayName("importArticles: NDJSON 의 올바른 행은 저장하고 잘못된 행은 행 번호와 함께 알려준다.")
+    @Test
+    public void importNdjson() throws Exception {
+        // given: 4번째 행은 제목이 10자를 넘고, 2번째 행은 제목이 없다.
+        final String body = """
+                {"title":"제목1","content":"내용1"}
+                {"content":"제목 없음"}
+                {"title":"제목3","content":"내용3"}
+                {"title":"열한 글자가 넘는 제목","content":"내용4"}
+                {"title":"제목5","content":"내용5"}
+                """;
+
+        // when
+        ResultActions result = mvc.perform(post("/api/articles/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .principal(principal)
+                .content(body));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[1].row").value(4));
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles).extracting(Article::getTitle).containsExactlyInAnyOrder("제목1", "제목3", "제목5");
+        assertThat(articles).allMatch(article -> article.getAuthor().equals("username"));
+    }
+
+    @DisplayName("importArticles: JSON 배열도 한 행씩 읽어 저장한다.")
+    @Test
+    public void importJsonArray() throws Exception {
+        // given
+        final String body = """
+                [
+                  {"title":"제목1","content":"내용1"},
+                  {"title":"제목2","content":"내용2"},
+                  {"title":"제목3","content":"내용3"}
+                ]
+                """;
+
+        // when
+        ResultActions result = mvc.perform(post("/api/articles/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .principal(principal)
+                .content(body));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(0));
+        assertThat(blogRepository.count()).isEqualTo(3);
+    }
+}
@@ -1,6 +1,7 @@
 package com.spring.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.springbootdeveloper.config.cache.ArticleCache;
 import com.spring.springbootdeveloper.config.error.ErrorCode;
 import com.spring.springbootdeveloper.domain.Article;
 import com.spring.springbootdeveloper.domain.User;
@@ -8,6 +9,7 @@ import com.spring.springbootdeveloper.dto.AddArticleRequest;
 import com.spring.springbootdeveloper.dto.UpdateArticleRequest;
 import com.spring.springbootdeveloper.repository.BlogRepository;
 import com.spring.springbootdeveloper.repository.UserRepository;
+import com.spring.springbootdeveloper.service.ArticleSearchService;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +18,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
@@ -30,8 +33,11 @@ import java.security.Principal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +62,12 @@ class BlogApiControllerTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ArticleCache articleCache;
+
+    @Autowired
+    ArticleSearchService articleSearchService;
+
     User user;
 
     @BeforeEach
@@ -75,6 +87,8 @@ class BlogApiControllerTest {
         this.mvc = MockMvcBuilders.webAppContextSetup(this.context)
                 .build();   // MVC 환경 설정
         blogRepository.deleteAll(); // 데이터베이스 비우기
+        articleCache.evictAll();    // 캐시 비우기
+        articleSearchService.rebuild(); // 검색 색인 비우기
     }
 
 
@@ -130,6 +144,112 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$[0].content").value(savedArticle.getContent()));
     }
 
+    @DisplayName("findArticlePage: 커서 기반으로 블로그 글 목록을 나누어 조회한다.")
+    @Test
+    public void findArticlePage() throws Exception {
+        // given: 블로그 글 3개를 등록한다.
+        final String url = "/api/articles";
+        Article first = createDefaultArticle();
+        Article second = createDefaultArticle();
+        Article third = createDefaultArticle();
+
+        // when: 첫 페이지를 2개씩 조회한다.
+        ResultActions firstPage = mvc.perform(get(url)
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then: 2개가 조회되고 다음 커서는 두 번째 글의 id 이다.
+        firstPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(second.getId()));
+
+        // when: 다음 커서로 이어서 조회한다.
+        ResultActions secondPage = mvc.perform(get(url)
+                .param("after", String.valueOf(second.getId()))
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then: 마지막 글만 조회되고 다음 페이지는 없다.
+        secondPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(third.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @DisplayName("findArticlesByAuthor: 작성자의 글만 최신 글부터 커서로 나누어 조회한다.")
+    @Test
+    public void findArticlesByAuthor() throws Exception {
+        // given: 내 글 3개와 다른 사람의 글 1개를 등록한다.
+        final String url = "/api/users/{author}/articles";
+        Article first = createDefaultArticle();
+        Article second = createDefaultArticle();
+        Article third = createDefaultArticle();
+        blogRepository.save(Article.builder()
+                .title("title")
+                .author("other@gmail.com")
+                .content("content")
+                .build());
+
+        // when: 첫 페이지를 2개씩 조회한다.
+        String nextCursor = objectMapper.readTree(mvc.perform(get(url, user.getUsername()).param("size", "2"))
+                        .andExpect(status().isOk())
+                        // then: 가장 최근에 쓴 글부터 2개가 조회된다.
+                        .andExpect(jsonPath("$.items.length()").value(2))
+                        .andExpect(jsonPath("$.items[0].id").value(third.getId()))
+                        .andExpect(jsonPath("$.items[1].id").value(second.getId()))
+                        .andExpect(jsonPath("$.hasNext").value(true))
+                        .andReturn().getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        // when: 다음 커서로 이어서 조회한다.
+        ResultActions secondPage = mvc.perform(get(url, user.getUsername())
+                .param("before", nextCursor)
+                .param("size", "2"));
+
+        // then: 처음 쓴 글만 조회되고 다른 사람의 글은 포함되지 않는다.
+        secondPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // when, then: 잘못된 커서로 조회하면 400 으로 응답한다.
+        mvc.perform(get(url, user.getUsername()).param("before", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_CURSOR.getCode()));
+    }
+
+    @DisplayName("searchArticles: 등록한 글을 조사가 붙은 한글 검색어로 찾는다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given: 블로그 글 2개를 API 로 등록한다.
+        final String url = "/api/articles/search";
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        mvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .principal(principal)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("스프링부트 입문", "스프링부트로 블로그를 만든다."))))
+                .andExpect(status().isCreated());
+        mvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .principal(principal)
+                        .content(objectMapper.writeValueAsString(new AddArticleRequest("여행 후기", "제주도 여행을 다녀왔다."))))
+                .andExpect(status().isCreated());
+
+        // when: 조사가 붙은 검색어로 검색한다.
+        ResultActions resultActions = mvc.perform(get(url)
+                .param("q", "스프링부트를")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then: 관련 글 한 개만 조회된다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("스프링부트 입문"));
+    }
+
     @DisplayName("findArticle: 블로그 글 조회에 성공한다")
     @Test
     public void findArticle() throws Exception {
@@ -148,6 +268,57 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.content").value(savedArticle.getContent()));
     }
 
+    @DisplayName("findArticle: ETag 가 같으면 304, 글을 수정하면 새 ETag 로 200 응답한다.")
+    @Test
+    public void findArticleNotModified() throws Exception {
+        // given: 글을 등록하고 한 번 조회해 ETag 를 받는다.
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String etag = mvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when, then: 같은 ETag 로 다시 조회하면 본문 없이 304 로 응답한다.
+        mvc.perform(get(url, savedArticle.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // when: 글을 수정한 뒤 이전 ETag 로 조회한다.
+        mvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("바뀐 제목", "바뀐 내용"))))
+                .andExpect(status().isOk());
+        ResultActions resultActions = mvc.perform(get(url, savedArticle.getId()).header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        // then: 새 ETag 와 수정된 내용으로 200 응답한다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.title").value("바뀐 제목"));
+    }
+
+    @DisplayName("findArticlePage: 목록이 바뀌지 않으면 304, 글이 추가되면 200 응답한다.")
+    @Test
+    public void findArticlePageNotModified() throws Exception {
+        // given: 글을 등록하고 목록을 조회해 ETag 를 받는다.
+        final String url = "/api/articles";
+        createDefaultArticle();
+        String etag = mvc.perform(get(url).param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when, then: 같은 ETag 로 다시 조회하면 304 로 응답한다.
+        mvc.perform(get(url).param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // when, then: 글이 추가된 뒤에는 같은 ETag 로 조회해도 새 목록으로 200 응답한다.
+        createDefaultArticle();
+        mvc.perform(get(url).param("size", "10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
     @DisplayName("deleteArticle: 블로그 글 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -167,6 +338,30 @@ class BlogApiControllerTest {
     }
 
 
+    @DisplayName("deleteArticle: 다른 사람의 글은 403, 없는 글은 404 로 삭제에 실패한다.")
+    @Test
+    public void deleteArticleNotAuthorOrNotFound() throws Exception {
+        // given: 다른 사람이 작성한 글을 저장한다.
+        final String url = "/api/articles/{id}";
+        Article othersArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .author("other@gmail.com")
+                .content("content")
+                .build());
+
+        // when, then: 다른 사람의 글을 삭제하면 403 으로 응답하고 글은 남아 있다.
+        mvc.perform(delete(url, othersArticle.getId()))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value(ErrorCode.FORBIDDEN.getCode()));
+        assertThat(blogRepository.existsById(othersArticle.getId())).isTrue();
+
+        // when, then: 없는 글을 삭제하면 404 로 응답한다.
+        mvc.perform(delete(url, othersArticle.getId() + 1000))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(ErrorCode.ARTICLE_NOT_FOUND.getCode()));
+    }
+
+
     @DisplayName("updateArticle: 블로그 글 수정에 성공한다.")
     @Test
     public void updateArticle() throws Exception {
@@ -193,6 +388,66 @@ class BlogApiControllerTest {
     }
 
 
+    @DisplayName("updateArticle: If-Match 의 ETag 가 현재 버전과 다르면 412 로 수정을 거절한다.")
+    @Test
+    public void updateArticleIfMatch() throws Exception {
+        // given: 글을 등록하고 조회해 ETag 를 받는다.
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        assertThat(savedArticle.getCreateAt()).isNotNull();     // 생성, 수정 시간이 채워진다
+        assertThat(savedArticle.getUpdatedAt()).isNotNull();
+        String etag = mvc.perform(get(url, savedArticle.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when: 받은 ETag 로 한 번 수정한다.
+        String newEtag = mvc.perform(put(url, savedArticle.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("먼저 수정", "내용"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + savedArticle.getId() + "-" + (savedArticle.getVersion() + 1) + "\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when: 이전 ETag 로 다시 수정을 요청한다.
+        ResultActions resultActions = mvc.perform(put(url, savedArticle.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("나중 수정", "내용"))));
+
+        // then: 412 로 거절되고 먼저 수정한 내용이 남아 있다. 새 ETag 는 조회 시 받는 값과 같다.
+        resultActions.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value(ErrorCode.ARTICLE_VERSION_MISMATCH.getCode()));
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getTitle()).isEqualTo("먼저 수정");
+        mvc.perform(get(url, savedArticle.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag));
+    }
+
+
+    @DisplayName("updateArticle: 캐시에 담긴 글을 수정하면 수정된 내용으로 조회된다.")
+    @Test
+    public void updateArticleEvictsCache() throws Exception {
+        // given: 글을 등록하고 한 번 조회해 캐시에 담는다.
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        mvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk());
+
+        final String newTitle = "바뀐 제목";
+        UpdateArticleRequest userRequest = new UpdateArticleRequest(newTitle, "바뀐 내용");
+
+        // when: 글을 수정한 뒤 다시 조회한다.
+        mvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(userRequest)))
+                .andExpect(status().isOk());
+        ResultActions resultActions = mvc.perform(get(url, savedArticle.getId()));
+
+        // then: 캐시에 남아있던 이전 제목이 아니라 수정된 제목이 조회된다.
+        resultActions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(newTitle));
+    }
+
+
     @DisplayName("addArticle: 아티클 추가할 때 title이 null 이면 실패한다.")
     @Test
     public void addArticleNullValidation() throws Exception {
@@ -0,0 +1,110 @@
+package com.spring.springbootdeveloper.load;
+
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.domain.User;
+import com.spring.springbootdeveloper.repository.UserRepository;
+import com.spring.springbootdeveloper.util.TokenDigestUtil;
+import jakarta.persistence.EntityManagerFactory;
+import net.datafaker.Faker;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.spring.springbootdeveloper.config.oauth.OAuth2SuccessHandler.REFRESH_TOKEN_DURATION;
+
+// 부하 테스트용 사용자, 글, 리프레시 토큰을 datafaker 로 만들어 JDBC 배치로 넣는다.
+// 같은 seed 면 같은 데이터가 만들어지므로 측정 결과를 비교할 수 있다.
+class LoadDataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_COLUMN_LENGTH = 255;   // title, content 컬럼 길이
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TokenProvider tokenProvider;
+    private final EntityManagerFactory entityManagerFactory;
+
+    LoadDataSeeder(JdbcTemplate jdbcTemplate, UserRepository userRepository, TokenProvider tokenProvider,
+                   EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.tokenProvider = tokenProvider;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    SeededData seed(LoadTestSettings settings) {
+        Faker faker = new Faker(new Random(settings.seed()));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 다른 부하 테스트가 남긴 데이터 정리 (테스트 프로필의 H2 는 같은 JVM 에서 공유된다)
+        jdbcTemplate.update("delete from refresh_token");
+        jdbcTemplate.update("delete from article");
+        jdbcTemplate.update("delete from users");
+        // JDBC 로 직접 바꾼 테이블은 Hibernate 가 모르므로 2차 캐시(엔티티, natural id, 쿼리)를 비운다.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        List<Object[]> userRows = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            userRows.add(new Object[]{"user" + i + "@" + faker.internet().domainName(), faker.name().firstName() + i, "kakao"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (email, nickname, provider) values (?, ?, ?)", userRows);
+        List<User> users = userRepository.findAll();
+
+        // 작성 시간을 지난 1년에 흩어 두어 작성자별 목록, 정렬이 실제와 비슷하게 동작하도록 한다.
+        List<Object[]> articleRows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < settings.articles(); i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(faker.random().nextInt(60 * 24 * 365)));
+            articleRows.add(new Object[]{
+                    truncate(faker.book().title()),
+                    truncate(faker.lorem().paragraph(5)),
+                    users.get(faker.random().nextInt(users.size())).getEmail(),
+                    createdAt,
+                    createdAt});
+            if (articleRows.size() == BATCH_SIZE) {
+                insertArticles(articleRows);
+                articleRows.clear();
+            }
+        }
+        insertArticles(articleRows);
+
+        List<String> accessTokens = new ArrayList<>(users.size());
+        List<String> refreshTokens = new ArrayList<>(settings.refreshTokens());
+        List<Object[]> tokenRows = new ArrayList<>(settings.refreshTokens());
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(REFRESH_TOKEN_DURATION));
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            accessTokens.add(tokenProvider.generateToken(user, Duration.ofHours(2)));
+            if (i < settings.refreshTokens()) {
+                String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION);
+                refreshTokens.add(refreshToken);
+                tokenRows.add(new Object[]{user.getId(), refreshToken, TokenDigestUtil.sha256(refreshToken), expiresAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into refresh_token (user_id, refresh_token, token_hash, expires_at) values (?, ?, ?, ?)", tokenRows);
+
+        long[] articleIds = jdbcTemplate.queryForList("select id from article order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        return new SeededData(accessTokens, refreshTokens, articleIds);
+    }
+
+    private void insertArticles(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into article (id, title, content, author, created_at, updated_at) "
+                    + "values (next value for article_seq, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_COLUMN_LENGTH ? value.substring(0, MAX_COLUMN_LENGTH) : value;
+    }
+
+    // accessTokens 는 사용자 순서, refreshTokens 는 앞쪽 사용자부터 settings.refreshTokens() 개
+    record SeededData(List<String> accessTokens, List<String> refreshTokens, long[] articleIds) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.spring.springbootdeveloper.load;
+
+// 부하 테스트 측정 결과 (latencies 는 성공한 요청의 응답 시간을 오름차순 정렬한 값, 단위는 측정하는 쪽에서 정한다)
+record LoadResult(int requests, long elapsedNanos, long[] latencies, int failures) {
+
+    long elapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    double throughput() {
+        return requests * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    long percentile(int percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+    }
+}
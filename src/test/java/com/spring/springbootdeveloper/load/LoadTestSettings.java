@@ -0,0 +1,86 @@
+package com.spring.springbootdeveloper.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 혼합 부하 테스트 설정, 시스템 프로퍼티 load.* 로 바꿀 수 있다.
+// ./gradlew loadTest -Pload.concurrency=64 -Pload.requests=20000 처럼 넘기면 build.gradle 이 시스템 프로퍼티로 전달한다.
+record LoadTestSettings(long seed,
+                        int users,
+                        int articles,
+                        int refreshTokens,
+                        int concurrency,
+                        int warmupRequests,
+                        int requests,
+                        Duration providerDelay,
+                        Map<Scenario, Integer> mix,
+                        Path report) {
+
+    // 시나리오별 기본 비중 (읽기 위주, 쓰기와 토큰 재발급 일부)
+    private static final String DEFAULT_MIX = "api-page=35,api-detail=25,view-list=15,api-write=10,token-refresh=10,oauth-login=5";
+
+    static LoadTestSettings fromSystemProperties() {
+        int users = intProperty("load.users", 200);
+        return new LoadTestSettings(
+                Long.getLong("load.seed", 42L),
+                users,
+                intProperty("load.articles", 5_000),
+                Math.min(intProperty("load.refresh-tokens", users), users),    // 사용자당 리프레시 토큰은 하나
+                intProperty("load.concurrency", 32),
+                intProperty("load.warmup-requests", 1_000),
+                intProperty("load.requests", 10_000),
+                Duration.ofMillis(intProperty("load.provider-delay-ms", 50)),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("load.report", "build/reports/load/mixed-workload.txt")));
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    // "api-page=35,api-write=10" 형태, 0 이하인 시나리오는 실행하지 않는다.
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.of(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no scenario: " + value);
+        }
+        return mix;
+    }
+
+    enum Scenario {
+        API_PAGE("api-page"),           // GET /api/articles?after=&size= (Bearer)
+        API_DETAIL("api-detail"),       // GET /api/articles/{id} (Bearer)
+        VIEW_LIST("view-list"),         // GET /articles (access_token 쿠키, Thymeleaf)
+        API_WRITE("api-write"),         // POST /api/articles (Bearer)
+        TOKEN_REFRESH("token-refresh"), // POST /api/token (리프레시 토큰으로 액세스 토큰 재발급)
+        OAUTH_LOGIN("oauth-login");     // GET /login/oauth2/code/kakao (스텁 제공자)
+
+        private final String key;
+
+        Scenario(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        static Scenario of(String key) {
+            for (Scenario scenario : values()) {
+                if (scenario.key.equals(key)) {
+                    return scenario;
+                }
+            }
+            throw new IllegalArgumentException("unknown load scenario: " + key);
+        }
+    }
+}
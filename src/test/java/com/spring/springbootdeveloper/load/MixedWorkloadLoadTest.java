@@ -0,0 +1,219 @@
+package com.spring.springbootdeveloper.load;
+
+import com.spring.springbootdeveloper.config.jwt.TokenProvider;
+import com.spring.springbootdeveloper.load.LoadDataSeeder.SeededData;
+import com.spring.springbootdeveloper.load.LoadTestSettings.Scenario;
+import com.spring.springbootdeveloper.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 읽기(API 목록, 상세, Thymeleaf 목록), 쓰기, 토큰 재발급, OAuth 로그인을 정해진 비중으로 섞어 보내는 부하 테스트
+// datafaker 로 seed 에 따라 같은 데이터를 만들고, 시나리오별 p50/p95/p99 응답 시간과 전체 처리량을 보고서로 남긴다.
+// 설정은 LoadTestSettings 참고, ./gradlew loadTest -Pload.concurrency=64 로 실행
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.spring.springbootdeveloper=warn",
+})
+@ActiveProfiles("test")
+class MixedWorkloadLoadTest {
+
+    private static final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private static final OAuthProviderStub providerStub = OAuthProviderStub.start(settings.providerDelay());
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SeededData data;
+    private HttpClient client;
+
+    @DynamicPropertySource
+    static void oauthProperties(DynamicPropertyRegistry registry) {
+        providerStub.register(registry);
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        data = new LoadDataSeeder(jdbcTemplate, userRepository, tokenProvider, entityManagerFactory).seed(settings);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        // 워밍업 (JIT, 커넥션 풀, 캐시), 결과는 버린다.
+        run(settings.warmupRequests(), settings.seed() - 1);
+
+        long start = System.nanoTime();
+        Map<Scenario, Recorder> recorders = run(settings.requests(), settings.seed());
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<Scenario, LoadResult> results = new EnumMap<>(Scenario.class);
+        recorders.forEach((scenario, recorder) -> results.put(scenario, recorder.toResult(elapsedNanos)));
+
+        String report = report(results, elapsedNanos);
+        System.out.print(report);
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        Files.writeString(settings.report(), report);
+
+        int failures = results.values().stream().mapToInt(LoadResult::failures).sum();
+        assertThat((double) failures / settings.requests()).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    // concurrency 개의 가상 스레드가 남은 요청 수를 나눠 가지며 요청을 보낸다. (닫힌 모델, 응답을 받아야 다음 요청)
+    // 시나리오 선택은 작업자마다 seed 로 만든 Random 을 쓰므로 같은 설정이면 같은 요청 구성이 된다.
+    private Map<Scenario, Recorder> run(int requests, long seed) throws Exception {
+        Map<Scenario, Recorder> recorders = new EnumMap<>(Scenario.class);
+        settings.mix().keySet().forEach(scenario -> recorders.put(scenario, new Recorder()));
+        AtomicInteger remaining = new AtomicInteger(requests);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(settings.concurrency());
+            for (int i = 0; i < settings.concurrency(); i++) {
+                Random random = new Random(seed * 31 + i);
+                workers.add(executor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        Scenario scenario = pick(random);
+                        long begin = System.nanoTime();
+                        boolean success = execute(scenario, random);
+                        recorders.get(scenario).record(success, (System.nanoTime() - begin) / 1_000);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return recorders;
+    }
+
+    // 비중에 따라 시나리오 선택
+    private Scenario pick(Random random) {
+        int total = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int target = random.nextInt(total);
+        for (Map.Entry<Scenario, Integer> entry : settings.mix().entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // 요청 1회, 기대한 응답이면 true
+    private boolean execute(Scenario scenario, Random random) {
+        String accessToken = data.accessTokens().get(random.nextInt(data.accessTokens().size()));
+        long articleId = data.articleIds()[random.nextInt(data.articleIds().length)];
+        try {
+            return switch (scenario) {
+                case API_PAGE -> send(get("/api/articles?size=20" + (random.nextBoolean() ? "&after=" + articleId : ""))
+                        .header("Authorization", "Bearer " + accessToken).build()).statusCode() == 200;
+                case API_DETAIL -> send(get("/api/articles/" + articleId)
+                        .header("Authorization", "Bearer " + accessToken).build()).statusCode() == 200;
+                case VIEW_LIST -> send(get("/articles")
+                        .header("Cookie", "access_token=" + accessToken).build()).statusCode() == 200;
+                case API_WRITE -> send(post("/api/articles", "{\"title\":\"load" + String.format("%06d", random.nextInt(1_000_000))
+                        + "\",\"content\":\"load test content\"}")
+                        .header("Authorization", "Bearer " + accessToken).build()).statusCode() == 201;
+                case TOKEN_REFRESH -> send(post("/api/token", "{\"refreshToken\":\""
+                        + data.refreshTokens().get(random.nextInt(data.refreshTokens().size())) + "\"}").build()).statusCode() == 201;
+                case OAUTH_LOGIN -> {
+                    OAuthProviderStub.Callback callback = providerStub.newCallback(port);
+                    HttpResponse<Void> response = send(HttpRequest.newBuilder(URI.create(callback.uri()))
+                            .header("Cookie", callback.cookie()).GET().build());
+                    yield response.statusCode() == 302
+                            && response.headers().firstValue("Location").orElse("").contains("/articles");
+                }
+            };
+        } catch (IOException | InterruptedException e) {
+            return false;
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private String report(Map<Scenario, LoadResult> results, long elapsedNanos) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("[load] mixed workload: seed=%d, users=%d, articles=%d, refreshTokens=%d, concurrency=%d, warmup=%d, requests=%d, providerDelay=%dms%n",
+                settings.seed(), settings.users(), settings.articles(), settings.refreshTokens(), settings.concurrency(),
+                settings.warmupRequests(), settings.requests(), settings.providerDelay().toMillis()));
+        report.append(String.format("%-14s %8s %7s %10s %10s %10s %10s%n", "scenario", "count", "errors", "p50(us)", "p95(us)", "p99(us)", "max(us)"));
+        results.forEach((scenario, result) -> report.append(String.format("%-14s %8d %7d %10d %10d %10d %10d%n",
+                scenario.key(), result.requests(), result.failures(),
+                result.percentile(50), result.percentile(95), result.percentile(99), result.percentile(100))));
+        report.append(String.format("total: %d requests in %d ms -> %.1f req/s%n",
+                settings.requests(), elapsedNanos / 1_000_000, settings.requests() * 1_000_000_000.0 / elapsedNanos));
+        return report.toString();
+    }
+
+    // 시나리오별 응답 시간(마이크로초)과 실패 수
+    private static class Recorder {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        void record(boolean success, long latencyMicros) {
+            if (success) {
+                latencies.add(latencyMicros);
+            } else {
+                failures.incrementAndGet();
+            }
+        }
+
+        LoadResult toResult(long elapsedNanos) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new LoadResult(sorted.length + failures.get(), elapsedNanos, sorted, failures.get());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.spring.springbootdeveloper.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 느린 OAuth 제공자(토큰 발급, 사용자 정보 조회가 각각 PROVIDER_DELAY 만큼 걸림)를 흉내 내는 스텁 서버를 띄우고
+// /login/oauth2/code/kakao 로 동시에 로그인 요청을 보내 처리량을 측정한다.
+// Tomcat 스레드를 MAX_THREADS 개로 제한해, 플랫폼 스레드 모드에서는 제공자 호출이 스레드를 붙잡는 만큼 처리량이 묶이는 것을 보여준다.
+// ./gradlew loadTest 로 실행
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + OAuthLoginLoadTest.MAX_THREADS,
+        "spring.jpa.show-sql=false",
+        "logging.level.com.spring.springbootdeveloper=warn",
+})
+@ActiveProfiles("test")
+abstract class OAuthLoginLoadTest {
+
+    static final int MAX_THREADS = 10;
+    static final Duration PROVIDER_DELAY = Duration.ofMillis(200);
+    static final int PROVIDER_CALLS_PER_LOGIN = 2;  // 토큰 발급 + 사용자 정보 조회
+    static final int WARMUP_REQUESTS = 20;
+    static final int REQUESTS = 200;
+
+    // 두 스레드 모드의 테스트가 함께 사용한다.
+    private static final OAuthProviderStub providerStub = OAuthProviderStub.start(PROVIDER_DELAY);
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void oauthProperties(DynamicPropertyRegistry registry) {
+        providerStub.register(registry);
+    }
+
+    // 스레드 모드 이름 (보고용)
+    abstract String mode();
+
+    // 측정 결과 검증
+    abstract void verify(LoadResult result);
+
+    @Test
+    void oauthLoginThroughput() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        // 워밍업 (JIT, 커넥션 풀)
+        run(client, WARMUP_REQUESTS);
+
+        LoadResult result = run(client, REQUESTS);
+        System.out.printf("[load] %s threads: %d logins in %d ms -> %.1f logins/s (p50 %d ms, p95 %d ms, max %d ms)%n",
+                mode(), REQUESTS, result.elapsedMillis(), result.throughput(),
+                result.percentile(50), result.percentile(95), result.percentile(100));
+
+        assertThat(result.failures()).isZero();
+        verify(result);
+    }
+
+    private LoadResult run(HttpClient client, int requests) throws Exception {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(requests);
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> login(client), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long[] latencies = futures.stream().mapToLong(CompletableFuture::join).filter(latency -> latency >= 0).sorted().toArray();
+        return new LoadResult(requests, elapsedNanos, latencies, requests - latencies.length);
+    }
+
+    // 로그인 1회 (실패하면 -1)
+    private long login(HttpClient client) {
+        OAuthProviderStub.Callback callback = providerStub.newCallback(port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(callback.uri()))
+                .header("Cookie", callback.cookie())
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            String location = response.headers().firstValue("Location").orElse("");
+            if (response.statusCode() != 302 || !location.contains("/articles")) {
+                return -1;
+            }
+        } catch (IOException | InterruptedException e) {
+            return -1;
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    // Tomcat 스레드 수에 묶일 때의 최소 소요 시간 (모든 스레드가 제공자 응답만 기다린다고 가정)
+    static long threadBoundMillis(int requests) {
+        long rounds = (requests + MAX_THREADS - 1) / MAX_THREADS;
+        return rounds * PROVIDER_CALLS_PER_LOGIN * PROVIDER_DELAY.toMillis();
+    }
+}
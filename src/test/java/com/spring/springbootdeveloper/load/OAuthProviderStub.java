@@ -0,0 +1,106 @@
+package com.spring.springbootdeveloper.load;
+
+import com.spring.springbootdeveloper.util.CookieUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 발급, 사용자 정보 조회마다 delay 만큼 지연되는 카카오 OAuth 제공자 스텁
+// 부하 테스트에서 실제 제공자 대신 사용하고, JVM 종료 시 정리된다.
+class OAuthProviderStub {
+
+    static final String CLIENT_ID = "load-test-client";
+
+    private final HttpServer server;
+    private final Duration delay;
+    private final AtomicLong userSequence = new AtomicLong();
+    private final AtomicLong stateSequence = new AtomicLong();
+
+    private OAuthProviderStub(Duration delay) throws IOException {
+        this.delay = delay;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", exchange -> respond(exchange,
+                "{\"access_token\":\"stub-access-token\",\"token_type\":\"bearer\",\"expires_in\":3600}"));
+        server.createContext("/v2/user/me", exchange -> {
+            long id = userSequence.incrementAndGet();
+            respond(exchange, "{\"id\":" + id + ",\"kakao_account\":{\"email\":\"load-" + id + "@example.com\","
+                    + "\"profile\":{\"nickname\":\"load-" + id + "\"}}}");
+        });
+    }
+
+    static OAuthProviderStub start(Duration delay) {
+        try {
+            OAuthProviderStub stub = new OAuthProviderStub(delay);
+            stub.server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> stub.server.stop(0)));
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    // 애플리케이션의 카카오 로그인 설정을 이 스텁으로 바꾼다. (@DynamicPropertySource 에서 호출)
+    void register(DynamicPropertyRegistry registry) {
+        registry.add("jwt.secret_key", () -> "bG9hZC10ZXN0LXNlY3JldC1rZXktZm9yLXNwcmluZ2Jvb3QtZGV2ZWxvcGVy");
+        registry.add("spring.security.oauth2.client.registration.kakao.client-id", () -> CLIENT_ID);
+        registry.add("spring.security.oauth2.client.registration.kakao.client-secret", () -> "load-test-secret");
+        registry.add("spring.security.oauth2.client.registration.kakao.redirect-uri", () -> "{baseUrl}/login/oauth2/code/{registrationId}");
+        registry.add("spring.security.oauth2.client.provider.kakao.authorization-uri", () -> url() + "/oauth/authorize");
+        registry.add("spring.security.oauth2.client.provider.kakao.token-uri", () -> url() + "/oauth/token");
+        registry.add("spring.security.oauth2.client.provider.kakao.user-info-uri", () -> url() + "/v2/user/me");
+    }
+
+    // 로그인 콜백 요청 (/login/oauth2/code/kakao?code=&state=) 과 함께 보낼 인증 요청 쿠키 값
+    // 인증 요청 시작 시 저장되는 쿠키를 그대로 만들어 보낸다.
+    Callback newCallback(int appPort) {
+        String state = "state-" + stateSequence.incrementAndGet();
+        String redirectUri = "http://localhost:" + appPort + "/login/oauth2/code/kakao";
+
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(url() + "/oauth/authorize")
+                .clientId(CLIENT_ID)
+                .redirectUri(redirectUri)
+                .scopes(Set.of("profile_nickname", "profile_image", "account_email"))
+                .state(state)
+                .attributes(Map.of(OAuth2ParameterNames.REGISTRATION_ID, "kakao"))
+                .build();
+
+        return new Callback(redirectUri + "?code=load-test-code&state=" + state,
+                "oauth2_auth_request=" + CookieUtil.serialize(authorizationRequest));
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    record Callback(String uri, String cookie) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.spring.springbootdeveloper.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기존 방식: 요청마다 Tomcat 플랫폼 스레드 하나가 제공자 응답을 기다리는 동안 묶인다.
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadOAuthLoginLoadTest extends OAuthLoginLoadTest {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+
+    @Override
+    void verify(LoadResult result) {
+        // 처리량이 Tomcat 스레드 수에 묶인다.
+        assertThat(result.elapsedMillis()).isGreaterThanOrEqualTo(threadBoundMillis(REQUESTS) * 9 / 10);
+    }
+}
@@ -0,0 +1,20 @@
+package com.spring.springbootdeveloper.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 스레드 모드: 제공자 응답을 기다리는 동안 캐리어 스레드를 반환하므로 동시 처리 수가 Tomcat 스레드 수에 묶이지 않는다.
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadOAuthLoginLoadTest extends OAuthLoginLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+
+    @Override
+    void verify(LoadResult result) {
+        assertThat(result.elapsedMillis()).isLessThan(threadBoundMillis(REQUESTS) / 2);
+    }
+}
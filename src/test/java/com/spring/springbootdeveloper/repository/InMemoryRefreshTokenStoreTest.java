@@ -0,0 +1,54 @@
+package com.spring.springbootdeveloper.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    @DisplayName("save(): 같은 유저의 토큰을 다시 저장하면 이전 토큰으로는 조회되지 않는다.")
+    @Test
+    void saveReplacesPreviousToken() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+        store.save(1L, "old-token");
+
+        // when
+        store.save(1L, "new-token");
+
+        // then
+        assertThat(store.findUserIdByRefreshToken("old-token")).isEmpty();
+        assertThat(store.findUserIdByRefreshToken("new-token")).contains(1L);
+    }
+
+    @DisplayName("deleteByUserId(): 유저의 토큰을 삭제한다.")
+    @Test
+    void deleteByUserId() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+        store.save(1L, "token");
+
+        // when
+        store.deleteByUserId(1L);
+
+        // then
+        assertThat(store.findUserIdByRefreshToken("token")).isEmpty();
+    }
+
+    @DisplayName("findUserIdByRefreshToken(): 유효기간이 지난 토큰은 조회되지 않는다.")
+    @Test
+    void expiredTokenIsNotFound() throws InterruptedException {
+        // given: 유효기간이 매우 짧은 저장소
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(Duration.ofMillis(10));
+        store.save(1L, "token");
+
+        // when
+        Thread.sleep(50);
+
+        // then
+        assertThat(store.findUserIdByRefreshToken("token")).isEmpty();
+    }
+}
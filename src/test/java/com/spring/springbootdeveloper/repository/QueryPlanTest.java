@@ -0,0 +1,82 @@
+package com.spring.springbootdeveloper.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 로 만든 H2 스키마에서 주요 쿼리의 실행 계획(EXPLAIN)이 인덱스를 사용하는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional  // 테스트가 끝나면 넣은 데이터를 롤백
+class QueryPlanTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void insertRows() {
+        // 빈 테이블에서는 전체 스캔과 비용 차이가 없으므로 작성자 여러 명의 글, 토큰을 넣어 둔다.
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> articles = new ArrayList<>(ROWS);
+        List<Object[]> tokens = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp time = Timestamp.valueOf(now.minusMinutes(i));
+            articles.add(new Object[]{"title" + i, "content" + i, "author" + (i % 20) + "@gmail.com", time, time});
+            tokens.add(new Object[]{100_000L + i, "token" + i, "hash" + i, time});
+        }
+
+        jdbcTemplate.batchUpdate("insert into article (id, title, content, author, created_at, updated_at) "
+                + "values (next value for article_seq, ?, ?, ?, ?, ?)", articles);
+        jdbcTemplate.batchUpdate("insert into refresh_token (user_id, refresh_token, token_hash, expires_at) "
+                + "values (?, ?, ?, ?)", tokens);
+    }
+
+    @DisplayName("작성자별 글 목록 조회는 (author, created_at) 인덱스를 사용한다.")
+    @Test
+    void articlesByAuthorUseAuthorCreatedAtIndex() {
+        // when
+        String plan = explain("select id, title from article where author = 'author1@gmail.com' "
+                + "order by created_at desc, id desc limit 10");
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_article_author_created_at");
+    }
+
+    @DisplayName("만료된 리프레시 토큰 조회는 expires_at 인덱스를 사용한다.")
+    @Test
+    void expiredTokensUseExpiresAtIndex() {
+        // when
+        String plan = explain("select id from refresh_token where expires_at <= timestamp '2000-01-01 00:00:00' limit 1000");
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_refresh_token_expires_at");
+    }
+
+    @DisplayName("리프레시 토큰 해시 조회는 token_hash unique 인덱스를 사용한다.")
+    @Test
+    void tokenHashLookupUsesUniqueIndex() {
+        // when
+        String plan = explain("select id from refresh_token where token_hash = 'hash1'");
+
+        // then
+        assertThat(plan).containsIgnoringCase("uk_refresh_token_token_hash");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.spring.springbootdeveloper.repository;
+
+import com.spring.springbootdeveloper.domain.RefreshToken;
+import com.spring.springbootdeveloper.domain.User;
+import com.spring.springbootdeveloper.service.RefreshTokenService;
+import com.spring.springbootdeveloper.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 각 조회는 트랜잭션 밖에서 호출되므로 매번 새 영속성 컨텍스트에서 실행된다. (1차 캐시가 아니라 2차 캐시 적중)
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final int LOOKUPS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepositoty refreshTokenRepositoty;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepositoty.deleteAll();
+        userRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("User: id, email 로 반복 조회하면 DB 대신 2차 캐시에서 읽는다.")
+    @Test
+    void userLookupsHitCache() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("cache@gmail.com")
+                .password("test")
+                .build());
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertThat(userService.findById(user.getId()).getEmail()).isEqualTo("cache@gmail.com");
+            assertThat(userService.findByEmail("cache@gmail.com").getId()).isEqualTo(user.getId());
+        }
+
+        // then: 처음 한 번(저장 시 캐시에 담기지 않았다면)을 제외하면 모두 캐시 적중
+        CacheRegionStatistics users = statistics.getDomainDataRegionStatistics(User.CACHE_REGION);
+        CacheRegionStatistics usersByEmail = statistics.getDomainDataRegionStatistics(User.NATURAL_ID_CACHE_REGION);
+        assertThat(hitRatio(users)).isGreaterThanOrEqualTo(0.9);
+        assertThat(hitRatio(usersByEmail)).isGreaterThanOrEqualTo(0.9);
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isLessThanOrEqualTo(1);
+    }
+
+    @DisplayName("RefreshToken: 같은 토큰으로 반복 조회하면 쿼리 캐시에서 읽고, 토큰이 바뀌면 무효화된다.")
+    @Test
+    void refreshTokenLookupsHitQueryCache() {
+        // given
+        refreshTokenService.save(1L, "refresh-token-1");
+        statistics.clear();
+
+        // when
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertThat(refreshTokenService.findUserIdByRefreshToken("refresh-token-1")).isEqualTo(1L);
+        }
+
+        // then: 첫 조회만 DB 를 조회하고 나머지는 쿼리 캐시 적중
+        CacheRegionStatistics lookups = statistics.getQueryRegionStatistics(RefreshToken.LOOKUP_QUERY_CACHE_REGION);
+        assertThat(hitRatio(lookups)).isGreaterThanOrEqualTo(0.8);
+
+        // when: 토큰 교체 (refresh_token 테이블 변경)
+        refreshTokenService.save(1L, "refresh-token-2");
+
+        // then: 교체 전 토큰은 더 이상 조회되지 않는다.
+        assertThat(refreshTokenService.findUserIdByRefreshToken("refresh-token-2")).isEqualTo(1L);
+        assertThatThrownBy(() -> refreshTokenService.findUserIdByRefreshToken("refresh-token-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        long total = region.getHitCount() + region.getMissCount();
+        return total == 0 ? 0 : (double) region.getHitCount() / total;
+    }
+}
@@ -0,0 +1,75 @@
+package com.spring.springbootdeveloper.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchIndexTest {
+
+    @DisplayName("tokenize(): 한글은 2글자 단위, 영문은 소문자 단어 단위로 자른다.")
+    @Test
+    void tokenize() {
+        assertThat(KoreanNgramTokenizer.tokenize("스프링부트 JPA 입문, 웹"))
+                .containsExactly("스프", "프링", "링부", "부트", "jpa", "입문", "웹");
+    }
+
+    @DisplayName("search(): 제목에 검색어가 들어간 글이 본문에만 들어간 글보다 앞에 온다.")
+    @Test
+    void searchRanksTitleFirst() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(1L, "여행 후기", "스프링 공부는 잠시 쉬고 여행을 다녀왔다.");
+        index.index(2L, "스프링 시큐리티", "필터 체인 구성을 정리했다.");
+        index.index(3L, "요리", "김치찌개 만드는 법");
+
+        // when
+        List<ArticleSearchIndex.Hit> hits = index.search("스프링을", 10);
+
+        // then
+        assertThat(hits).extracting(ArticleSearchIndex.Hit::id).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("index(), remove(): 수정된 글은 새 내용으로만, 삭제된 글은 검색되지 않는다.")
+    @Test
+    void updateAndRemove() {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(1L, "제목", "데이터베이스 인덱스");
+        index.index(2L, "제목", "데이터베이스 트랜잭션");
+
+        // when
+        index.index(1L, "제목", "캐시 전략");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("데이터베이스", 10)).isEmpty();
+        assertThat(index.search("캐시", 10)).extracting(ArticleSearchIndex.Hit::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @DisplayName("writeTo(), readFrom(): 저장한 색인을 읽으면 같은 검색 결과를 반환한다.")
+    @Test
+    void snapshotRoundTrip() throws Exception {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        index.index(1L, "스프링 입문", "스프링부트 시작하기");
+        index.index(2L, "JPA 정리", "영속성 컨텍스트와 스프링 데이터");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // when
+        ArticleSearchIndex loaded = new ArticleSearchIndex();
+        loaded.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(loaded.search("스프링", 10)).isEqualTo(index.search("스프링", 10));
+        assertThat(loaded.maxId()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.spring.springbootdeveloper.service;
+
+import com.spring.springbootdeveloper.domain.Article;
+import com.spring.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "article.view-count.flush-interval=PT1H")  // 자동 반영 없이 직접 flush() 호출
+@ActiveProfiles("test")
+class ArticleViewCounterTest {
+
+    @Autowired
+    ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    Article first;
+    Article second;
+
+    @BeforeEach
+    void setUp() {
+        articleViewCounter.flush();
+        blogRepository.deleteAll();
+        first = blogRepository.save(Article.builder().title("first").content("content").author("user").build());
+        second = blogRepository.save(Article.builder().title("second").content("content").author("user").build());
+    }
+
+    @DisplayName("flush(): 메모리에 모은 조회수를 DB 에 한 번에 반영한다.")
+    @Test
+    void flush() {
+        // given: 첫 번째 글을 3번 조회한다.
+        articleViewCounter.increment(first.getId(), 0);
+        articleViewCounter.increment(first.getId(), 0);
+        long current = articleViewCounter.increment(first.getId(), 0);
+
+        // when: 반영 전에는 DB 값이 그대로이고, 반영 후에는 늘어난다.
+        long beforeFlush = blogRepository.findById(first.getId()).orElseThrow().getViewCount();
+        articleViewCounter.flush();
+        long afterFlush = blogRepository.findById(first.getId()).orElseThrow().getViewCount();
+
+        // then
+        assertThat(current).isEqualTo(3);
+        assertThat(beforeFlush).isZero();
+        assertThat(afterFlush).isEqualTo(3);
+        assertThat(articleViewCounter.get(first.getId(), 0)).isEqualTo(3);
+    }
+
+    @DisplayName("findMostViewed(): 조회수가 많은 글부터 반환한다.")
+    @Test
+    void findMostViewed() {
+        // given: 두 번째 글을 더 많이 조회한다.
+        articleViewCounter.increment(first.getId(), 0);
+        articleViewCounter.increment(second.getId(), 0);
+        articleViewCounter.increment(second.getId(), 0);
+
+        // when: 다른 테스트에서 집계된 글은 제외하고 본다.
+        List<Map.Entry<Long, Long>> mostViewed = articleViewCounter.findMostViewed(10)
+                .stream()
+                .filter(entry -> entry.getKey().equals(first.getId()) || entry.getKey().equals(second.getId()))
+                .toList();
+
+        // then
+        assertThat(mostViewed).containsExactly(Map.entry(second.getId(), 2L), Map.entry(first.getId(), 1L));
+    }
+}
@@ -0,0 +1,87 @@
+package com.spring.springbootdeveloper.service;
+
+import com.spring.springbootdeveloper.domain.RefreshToken;
+import com.spring.springbootdeveloper.repository.RefreshTokenRepositoty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest(properties = "refresh-token.purge.batch-size=2")
+@ActiveProfiles("test")
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @MockitoSpyBean     // 만료 토큰 조회 직후에 끼어들기 위함 (그 외에는 실제 리포지토리로 동작)
+    RefreshTokenRepositoty refreshTokenRepositoty;
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void cleanUp() {
+        refreshTokenRepositoty.deleteAll();
+    }
+
+    @DisplayName("purgeExpiredTokens(): 만료된 토큰만 배치 크기로 나누어 삭제한다.")
+    @Test
+    void purgeExpiredTokens() {
+        // given: 만료된 토큰 3개(배치 크기 2 보다 많음)와 유효한 토큰 1개를 저장
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        refreshTokenRepositoty.save(new RefreshToken(1L, "expired-1", past));
+        refreshTokenRepositoty.save(new RefreshToken(2L, "expired-2", past));
+        refreshTokenRepositoty.save(new RefreshToken(3L, "expired-3", past));
+        refreshTokenRepositoty.save(new RefreshToken(4L, "valid", LocalDateTime.now().plusDays(1)));
+        long purgedBefore = refreshTokenPurgeJob.getPurgedCount();
+
+        // when: 정리 작업을 실행한다.
+        refreshTokenPurgeJob.purgeExpiredTokens();
+
+        // then: 유효한 토큰만 남고 삭제한 수가 기록된다.
+        List<RefreshToken> remaining = refreshTokenRepositoty.findAll();
+        assertThat(remaining).extracting(RefreshToken::getRefreshToken).containsExactly("valid");
+        assertThat(refreshTokenPurgeJob.getPurgedCount() - purgedBefore).isEqualTo(3);
+    }
+
+    @DisplayName("purgeExpiredTokens(): 조회한 뒤 삭제하기 전에 다시 로그인해 갱신된 토큰은 삭제하지 않는다.")
+    @Test
+    void keepTokenRefreshedBeforeDelete() {
+        // given: 만료된 토큰 2개
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        refreshTokenRepositoty.save(new RefreshToken(1L, "expired-1", past));
+        refreshTokenRepositoty.save(new RefreshToken(2L, "expired-2", past));
+        long purgedBefore = refreshTokenPurgeJob.getPurgedCount();
+
+        // 첫 조회 직후 사용자 1이 다시 로그인한다. (같은 행이 새 토큰, 새 만료 시간으로 바뀜)
+        AtomicBoolean loggedIn = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            Object expiredIds = invocation.callRealMethod();
+            if (loggedIn.compareAndSet(false, true)) {
+                refreshTokenService.save(1L, "refreshed-1");
+            }
+            return expiredIds;
+        }).when(refreshTokenRepositoty).findExpiredIds(any(), any());
+
+        // when
+        refreshTokenPurgeJob.purgeExpiredTokens();
+
+        // then: 갱신된 토큰은 남고, 여전히 만료된 토큰만 삭제된다.
+        assertThat(loggedIn).isTrue();
+        assertThat(refreshTokenRepositoty.findAll()).extracting(RefreshToken::getRefreshToken).containsExactly("refreshed-1");
+        assertThat(refreshTokenService.findUserIdByRefreshToken("refreshed-1")).isEqualTo(1L);
+        assertThat(refreshTokenPurgeJob.getPurgedCount() - purgedBefore).isEqualTo(1);
+    }
+}
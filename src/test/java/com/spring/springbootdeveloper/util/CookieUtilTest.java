@@ -0,0 +1,75 @@
+package com.spring.springbootdeveloper.util;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CookieUtilTest {
+
+    // 테스트용 OAuth2 인증 요청 (카카오 로그인 + PKCE)
+    static OAuth2AuthorizationRequest createAuthorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://kauth.kakao.com/oauth/authorize")
+                .clientId("kakao-client-id")
+                .redirectUri("http://localhost:5000/login/oauth2/code/kakao")
+                .scopes(Set.of("profile_nickname", "profile_image", "account_email"))
+                .state("Rk9vQmFyU3RhdGVWYWx1ZUZvclRlc3Rpbmc=")
+                .additionalParameters(Map.of("code_challenge_method", "S256"))
+                .attributes(Map.of(
+                        OAuth2ParameterNames.REGISTRATION_ID, "kakao",
+                        "code_verifier", "dGVzdC1jb2RlLXZlcmlmaWVyLXZhbHVlLWZvci1wa2NlLWZsb3c"))
+                .build();
+    }
+
+    @DisplayName("serialize(), deserialize(): 쿠키로 변환한 인증 요청을 그대로 복원한다.")
+    @Test
+    void roundTrip() {
+        // given
+        OAuth2AuthorizationRequest request = createAuthorizationRequest();
+
+        // when
+        String value = CookieUtil.serialize(request);
+        OAuth2AuthorizationRequest restored = CookieUtil.deserialize(new Cookie("oauth2_auth_request", value));
+
+        // then
+        assertThat(restored.getAuthorizationUri()).isEqualTo(request.getAuthorizationUri());
+        assertThat(restored.getClientId()).isEqualTo(request.getClientId());
+        assertThat(restored.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(restored.getScopes()).isEqualTo(request.getScopes());
+        assertThat(restored.getState()).isEqualTo(request.getState());
+        assertThat(restored.getAdditionalParameters()).isEqualTo(request.getAdditionalParameters());
+        assertThat(restored.getAttributes()).isEqualTo(request.getAttributes());
+        assertThat(restored.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+    }
+
+    @DisplayName("serialize(): 자바 직렬화보다 쿠키 크기가 훨씬 작다.")
+    @Test
+    void smallerThanJavaSerialization() {
+        // given
+        OAuth2AuthorizationRequest request = createAuthorizationRequest();
+        String javaSerialized = Base64.getUrlEncoder().encodeToString(SerializationUtils.serialize(request));
+
+        // when
+        String value = CookieUtil.serialize(request);
+
+        // then
+        assertThat(value.length()).isLessThan(javaSerialized.length() / 2);
+    }
+
+    @DisplayName("deserialize(): 쿠키가 없거나 변조되었으면 null 을 반환한다.")
+    @Test
+    void invalidCookie() {
+        assertThat(CookieUtil.deserialize(null)).isNull();
+        assertThat(CookieUtil.deserialize(new Cookie("oauth2_auth_request", "zbm90LWRlZmxhdGVk"))).isNull();
+        assertThat(CookieUtil.deserialize(new Cookie("oauth2_auth_request", "rO0ABXNy"))).isNull();
+    }
+}
@@ -0,0 +1,26 @@
+package com.spring.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDigestUtilTest {
+
+    @DisplayName("sha256(): ASCII 가 아닌 문자만 다른 값도 서로 다른 해시가 된다.")
+    @Test
+    void distinctDigestsForNonAsciiValues() {
+        // given: US_ASCII 로 변환하면 둘 다 "token-?" 가 되는 값
+        String first = "token-가";
+        String second = "token-나";
+
+        // when
+        String firstDigest = TokenDigestUtil.sha256(first);
+        String secondDigest = TokenDigestUtil.sha256(second);
+
+        // then
+        assertThat(firstDigest).isNotEqualTo(secondDigest);
+        assertThat(firstDigest).isNotEqualTo(TokenDigestUtil.sha256("token-?"));
+        assertThat(firstDigest).hasSize(43);
+    }
+}